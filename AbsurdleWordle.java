@@ -0,0 +1,137 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AbsurdleWordle is an adversarial game of Wordle ("Absurdle"): the game never
+ * picks a target. It keeps every word of the word bank that fits the colors so
+ * far, and after each guess it sorts them into buckets by the pattern they would
+ * give that guess and keeps the largest bucket. The guess gets that bucket's
+ * colors, so the game is only won once a single word is left and it is guessed.
+ * Ties go to the smaller pattern id, so when a bucket of all greens is as large
+ * as another one the game still dodges the win.
+ *
+ * The candidates are word bank indexes in an int array, and the buckets are
+ * counted in an int array indexed by pattern id, so a guess scores each
+ * candidate once (see WordScorer) and creates no objects; the array is
+ * compacted in place to the chosen bucket.
+ *
+ * Everything else (hard mode, the number of guesses, getWordleWord, the event
+ * log) works like Wordle1. getWordleWord returns a word of the current bucket,
+ * so getPattern(guess, getWordleWord()) gives the colors the guess got, and when
+ * the game is lost it is a word that was still possible.
+ */
+public class AbsurdleWordle extends Wordle1 {
+    // these are set up by the first reset(), which runs in Wordle1's constructor
+    private int[] candidates; // word bank indexes of the words that are still possible
+    private int numCandidates;
+    private int[] patterns; // [i] -> the pattern candidates[i] gives the current guess
+    private int[] counts; // [pattern] -> words in its bucket, all 0 between guesses
+
+    /**
+     * Sets up an adversarial game in the given mode, using the mode's word bank.
+     */
+    public AbsurdleWordle(GameMode mode) {
+        this(mode, mode.getDictionary());
+    }
+
+    public AbsurdleWordle(GameMode mode, WordDictionary dictionary) {
+        super(mode, dictionary);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        WordDictionary d = getDictionary();
+        if (candidates == null) {
+            candidates = new int[d.size()];
+            patterns = new int[d.size()];
+            counts = new int[getMode().getScorer().getNumPatterns()];
+        }
+        for (int i = 0; i < d.size(); i++) {
+            candidates[i] = i;
+        }
+        numCandidates = d.size();
+    }
+
+    /**
+     * Narrows the candidates down to the largest bucket for a guess that
+     * playTurn accepted, before it is scored.
+     */
+    @Override
+    protected void guessAccepted(String guess) {
+        narrow(getMode().getScorer().pack(guess));
+    }
+
+    /**
+     * Keeps the largest bucket of candidates for a packed guess and makes one of
+     * them the target.
+     *
+     * @return the pattern id of the bucket that was kept
+     */
+    int narrow(long guess) {
+        WordScorer scorer = getMode().getScorer();
+        WordDictionary d = getDictionary();
+        int best = -1;
+        int bestCount = 0;
+        for (int i = 0; i < numCandidates; i++) {
+            int p = scorer.score(guess, d.longCodeAt(candidates[i]));
+            patterns[i] = p;
+            int c = ++counts[p];
+            // only bucket p grew, so comparing it to the best so far is enough
+            if (c > bestCount || (c == bestCount && p < best)) {
+                best = p;
+                bestCount = c;
+            }
+        }
+        int n = 0;
+        for (int i = 0; i < numCandidates; i++) {
+            int p = patterns[i];
+            counts[p] = 0;
+            if (p == best) {
+                candidates[n++] = candidates[i];
+            }
+        }
+        numCandidates = n;
+        setWordleWord(scorer.unpack(d.longCodeAt(candidates[0])));
+        return best;
+    }
+
+    // number of words that still fit every guess
+    public int getCandidateCount() {
+        return numCandidates;
+    }
+
+    // the words that still fit every guess, in uppercase
+    public List<String> getCandidates() {
+        WordScorer scorer = getMode().getScorer();
+        List<String> words = new ArrayList<>(numCandidates);
+        for (int i = 0; i < numCandidates; i++) {
+            words.add(scorer.unpack(getDictionary().longCodeAt(candidates[i])));
+        }
+        return words;
+    }
+
+    /**
+     * Plays the rest of the game with a strategy, without a GUI (like
+     * BatchSimulator.play, but the game picks the colors).
+     *
+     * @return the number of guesses it took to win, 0 if the game was lost, or -1
+     *         if the strategy guessed a word the game doesn't accept
+     */
+    public int play(GuessStrategy strategy) {
+        String[] guesses = new String[getMode().getMaxGuesses()];
+        int[] patterns = new int[getMode().getMaxGuesses()];
+        while (!getGameOver()) {
+            int turn = getNumGuesses();
+            String guess = strategy.nextGuess(guesses, patterns, turn);
+            if (!playTurn(guess)) {
+                return -1;
+            }
+            guesses[turn] = guess;
+            patterns[turn] = getPattern(guess, getWordleWord());
+        }
+        return getWonGame() ? getNumGuesses() : 0;
+    }
+}
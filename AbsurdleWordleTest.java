@@ -0,0 +1,62 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AbsurdleWordleTest {
+    @Test
+    public void testKeepsTheLargestBucketAndDodgesTheWin() {
+        WordDictionary d = WordDictionary.of(List.of("crane", "sloth"));
+        AbsurdleWordle w = new AbsurdleWordle(GameMode.CLASSIC, d);
+        Assertions.assertEquals(2, w.getCandidateCount());
+        Assertions.assertFalse(w.playTurn("qqqqq"));
+        Assertions.assertEquals(2, w.getCandidateCount());
+
+        // both buckets have one word, so the game doesn't give the win away
+        Assertions.assertTrue(w.playTurn("crane"));
+        Assertions.assertFalse(w.getGameOver());
+        Assertions.assertEquals(List.of("SLOTH"), w.getCandidates());
+        Assertions.assertEquals("SLOTH", w.getWordleWord());
+        Assertions.assertTrue(w.playTurn("sloth"));
+        Assertions.assertTrue(w.getWonGame());
+        Assertions.assertEquals(2, w.getNumGuesses());
+
+        // a new game starts with every word again
+        w.reset();
+        Assertions.assertEquals(2, w.getCandidateCount());
+
+        // a turn checks the guess once, like Wordle1
+        long checks = Metrics.IS_VALID_INPUT.getCount();
+        Assertions.assertTrue(w.playTurn("crane"));
+        Assertions.assertEquals(checks + 1, Metrics.IS_VALID_INPUT.getCount());
+    }
+
+    @Test
+    public void testMatchesBucketingWithAMap() {
+        WordDictionary d = WordDictionary.getInstance();
+        AbsurdleWordle w = new AbsurdleWordle(GameMode.of(5, GameMode.MAX_GUESSES), d);
+        List<String> remaining = d.toList();
+        for (String guess : List.of("crane", "split", "count")) {
+            Map<Integer, Integer> buckets = new HashMap<>();
+            for (String word : remaining) {
+                buckets.merge(FeedbackScorer.score(guess, word), 1, Integer::sum);
+            }
+            int largest = buckets.values().stream().max(Integer::compare).get();
+            Assertions.assertTrue(w.playTurn(guess));
+            Assertions.assertEquals(largest, w.getCandidateCount());
+            int pattern = w.getPattern(guess, w.getWordleWord());
+            for (String word : w.getCandidates()) {
+                Assertions.assertEquals(pattern, FeedbackScorer.score(guess, word));
+            }
+            remaining = w.getCandidates();
+        }
+
+        // headless play: guessing a word that's still possible always ends the game
+        int guesses = w.play((previous, patterns, turn) -> w.getCandidates().get(0));
+        Assertions.assertTrue(guesses > 3, "won after " + guesses + " guesses");
+    }
+}
@@ -0,0 +1,160 @@
+package org.gameProject.wordle1;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * AtomicGame is a game of Wordle whose state is an immutable GameState held in
+ * an AtomicReference. Readers (renderers, statistics, a server's status
+ * requests) just call getState() and get a consistent state without locking.
+ * A guess, undo or rewind computes the next state from the current one and
+ * installs it with compareAndSet, retrying if another thread changed the game
+ * in between.
+ *
+ * Unlike Wordle1 there are no setters: the only way to change the game is to
+ * play it, go back to an earlier state, or start a new game.
+ */
+public class AtomicGame {
+    private final GameMode mode;
+    private final WordDictionary dictionary;
+    private final TargetSelector targetSelector;
+    private final boolean hardMode;
+    private final AtomicReference<GameState> state = new AtomicReference<>();
+
+    /**
+     * Starts a game in the given mode, using the mode's word bank and picking
+     * targets with the given selector.
+     */
+    public AtomicGame(GameMode mode, TargetSelector targetSelector, boolean hardMode) {
+        this(mode, mode.getDictionary(), targetSelector, hardMode);
+    }
+
+    public AtomicGame(GameMode mode, WordDictionary dictionary, TargetSelector targetSelector,
+            boolean hardMode) {
+        if (dictionary.getWordLength() != mode.getWordLength()) {
+            throw new IllegalArgumentException(
+                    "The word bank has " + dictionary.getWordLength() + "-letter words, not "
+                            + mode.getWordLength()
+            );
+        }
+        this.mode = mode;
+        this.dictionary = dictionary;
+        this.targetSelector = targetSelector;
+        this.hardMode = hardMode;
+        reset();
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    /**
+     * Returns the current state. It never changes, so it can be kept and read
+     * while other threads keep playing.
+     */
+    public GameState getState() {
+        return state.get();
+    }
+
+    /**
+     * Starts a new game with the next target from the selector.
+     */
+    public GameState reset() {
+        long start = Metrics.start();
+        if (dictionary.isEmpty()) {
+            throw new IllegalStateException(
+                    "No " + mode.getWordLength() + "-letter words in the word bank"
+            );
+        }
+        GameState s = GameState.start(mode, dictionary, targetSelector.nextIndex(dictionary));
+        state.set(s);
+        Metrics.RESET.stop(start);
+        return s;
+    }
+
+    /**
+     * Plays a guess. Like Wordle1.playTurn, a guess that isn't a word of the
+     * mode's length in the word bank (or that ignores earlier feedback in hard
+     * mode) is rejected, as is any guess once the game is over.
+     *
+     * @return the state after the guess, or null if the guess was rejected
+     */
+    public GameState playTurn(String s) {
+        long start = Metrics.start();
+        GameState next = turn(s);
+        Metrics.PLAY_TURN.stop(start);
+        return next;
+    }
+
+    private GameState turn(String s) {
+        long guess = PackedWordList.encode(s, mode.getWordLength());
+        if (guess < 0 || dictionary.indexOfCode(guess) < 0) {
+            Metrics.INVALID_GUESSES.increment();
+            return null;
+        }
+        while (true) {
+            GameState current = state.get();
+            if (current.getGameOver()
+                    || (hardMode && !current.getConstraints().allows(guess))) {
+                Metrics.INVALID_GUESSES.increment();
+                return null;
+            }
+            GameState next = current.play(guess);
+            if (state.compareAndSet(current, next)) {
+                if (next.getGameOver()) {
+                    (next.getWonGame() ? Metrics.GAMES_WON : Metrics.GAMES_LOST).increment();
+                }
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Takes back the last guess (even if it ended the game).
+     *
+     * @return the state after the undo
+     */
+    public GameState undo() {
+        while (true) {
+            GameState current = state.get();
+            GameState previous = current.previous();
+            if (previous == current || state.compareAndSet(current, previous)) {
+                return previous;
+            }
+        }
+    }
+
+    /**
+     * Goes back to the state after the first n guesses of the current game.
+     */
+    public GameState rewind(int n) {
+        while (true) {
+            GameState current = state.get();
+            GameState earlier = current.at(n);
+            if (earlier == current || state.compareAndSet(current, earlier)) {
+                return earlier;
+            }
+        }
+    }
+
+    /**
+     * Installs an earlier state of this game, e.g. one kept from getState()
+     * before an undo (time travel forwards as well as back). Returns false if it
+     * belongs to another game, or if a reset started another game first.
+     */
+    public boolean restore(GameState s) {
+        while (true) {
+            GameState current = state.get();
+            // states of the same game all go back to the same start state
+            if (s.at(0) != current.at(0)) {
+                return false;
+            }
+            if (state.compareAndSet(current, s)) {
+                return true;
+            }
+        }
+    }
+}
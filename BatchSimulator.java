@@ -0,0 +1,103 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * BatchSimulator plays many games of Wordle without a GUI or console output, to
+ * measure how well a GuessStrategy does. Every game is played by its own Wordle1
+ * using the same playTurn/getColors/checkWinner rules as the real game, and the
+ * games are spread over all cores with a parallel stream.
+ */
+public class BatchSimulator {
+    private final GuessStrategy strategy;
+
+    public BatchSimulator(GuessStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Plays one game for every target word and returns the combined results.
+     */
+    public SimulationStats run(List<String> targets) {
+        long start = System.nanoTime();
+        SimulationStats stats = IntStream.range(0, targets.size()).parallel().collect(
+                SimulationStats::new,
+                (s, i) -> s.record(play(targets.get(i))),
+                SimulationStats::merge
+        );
+        stats.setElapsedNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * Plays a single game against the given target.
+     *
+     * @return the number of guesses it took to win, 0 if the game was lost, or -1
+     *         if the strategy guessed a word the game doesn't accept
+     */
+    public int play(String target) {
+        Wordle1 w = new Wordle1();
+        w.setWordleWord(target.trim().toUpperCase());
+        String[] guesses = new String[Wordle1.MAX_GUESSES];
+        int[] patterns = new int[Wordle1.MAX_GUESSES];
+
+        while (!w.getGameOver()) {
+            int turn = w.getNumGuesses();
+            String guess = strategy.nextGuess(guesses, patterns, turn);
+            if (!w.playTurn(guess)) {
+                return -1;
+            }
+            guesses[turn] = guess;
+            patterns[turn] = w.getPattern(guess, w.getWordleWord());
+            if (w.checkWinner(guess)) {
+                return w.getNumGuesses();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Picks n targets from the word bank. If n is larger than the word bank,
+     * words are picked with replacement, so a batch can have any size.
+     */
+    public static List<String> sample(WordDictionary d, int n, long seed) {
+        SplittableRandom r = new SplittableRandom(seed);
+        List<String> targets = new ArrayList<>(n);
+        if (n >= d.size()) {
+            for (int i = 0; i < n; i++) {
+                targets.add(d.wordAt(i < d.size() ? i : r.nextInt(d.size())));
+            }
+        } else {
+            // partial Fisher-Yates shuffle of the word indices
+            int[] order = IntStream.range(0, d.size()).toArray();
+            for (int i = 0; i < n; i++) {
+                int j = i + r.nextInt(order.length - i);
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+                targets.add(d.wordAt(order[i]));
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Runs a batch from the command line.
+     *
+     * Usage: BatchSimulator [number of games] [opener]
+     * With no arguments, plays one game for every word in the word bank.
+     */
+    public static void main(String[] args) {
+        WordDictionary d = WordDictionary.getInstance();
+        List<String> targets = args.length > 0
+                ? sample(d, Integer.parseInt(args[0]), System.nanoTime())
+                : d.toList();
+        String opener = args.length > 1 ? args[1] : "crane";
+
+        BatchSimulator sim = new BatchSimulator(new FirstCandidateStrategy(d, opener));
+        System.out.print(sim.run(targets));
+    }
+}
@@ -0,0 +1,37 @@
+package org.gameProject.wordle1;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads a text word list (one word per line) packaged as a resource, e.g. the
+ * copy of WordleWords.txt in the game's jar. Resources ending in ".gz" are
+ * decompressed as they are read.
+ */
+public class ClasspathWordSource implements WordSource {
+    private final Class<?> anchor; // the resource name is relative to this class
+    private final String resource;
+
+    public ClasspathWordSource(Class<?> anchor, String resource) {
+        this.anchor = anchor;
+        this.resource = resource;
+    }
+
+    @Override
+    public PackedWordList load(int wordLength) throws IOException {
+        InputStream raw = anchor.getResourceAsStream(resource);
+        if (raw == null) {
+            throw new FileNotFoundException("No resource " + resource);
+        }
+        try (InputStream in = resource.endsWith(".gz") ? new GZIPInputStream(raw) : raw) {
+            return PackedWordList.parse(in, wordLength);
+        }
+    }
+
+    @Override
+    public String describe() {
+        return "classpath:" + resource;
+    }
+}
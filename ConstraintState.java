@@ -0,0 +1,207 @@
+package org.gameProject.wordle1;
+
+import java.util.Arrays;
+
+/**
+ * ConstraintState is everything the feedback so far says about the answer, kept
+ * up to date one guess at a time: a bitmask of the letters each position can
+ * still be (a green letter is the only one left at its position, gray and yellow
+ * letters are removed from theirs) and the smallest and largest number of copies
+ * of each letter the answer can have (yellow and green copies are required, a
+ * gray copy caps the count).
+ *
+ * Checking whether a word fits all the feedback looks at each of its letters
+ * once and at the letters that have a count limit, no matter how many guesses
+ * were made. Hard mode uses it to reject guesses that ignore earlier feedback,
+ * and filter removes the words that don't fit from a whole candidate bitset.
+ */
+public final class ConstraintState {
+    private static final int ALL_LETTERS = ((1 << LetterIndex.LETTERS) - 1) & ~1; // codes 1..26
+
+    private final int length;
+    private final WordScorer scorer;
+    private final int[] allowed; // [position] -> bit per letter code the position can be
+    private final int[] minCount = new int[LetterIndex.LETTERS];
+    private final int[] maxCount = new int[LetterIndex.LETTERS];
+    private int counted; // letters whose count is limited (min > 0 or max < length)
+    private int excluded; // letters the answer doesn't have at all
+
+    public ConstraintState(int wordLength) {
+        this.length = wordLength;
+        this.scorer = WordScorer.forLength(wordLength);
+        this.allowed = new int[wordLength];
+        clear();
+    }
+
+    /**
+     * Forgets all feedback.
+     */
+    public void clear() {
+        Arrays.fill(allowed, ALL_LETTERS);
+        Arrays.fill(minCount, 0);
+        Arrays.fill(maxCount, length);
+        counted = 0;
+        excluded = 0;
+    }
+
+    public int getWordLength() {
+        return length;
+    }
+
+    /**
+     * Adds the feedback a (packed) guess got.
+     */
+    public void update(long guess, int pattern) {
+        int seen = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = letterAt(guess, i);
+            if (FeedbackScorer.digitAt(pattern, i) == FeedbackScorer.GREEN) {
+                allowed[i] = 1 << letter;
+            } else {
+                allowed[i] &= ~(1 << letter);
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            int letter = letterAt(guess, i);
+            if ((seen & (1 << letter)) != 0) {
+                continue;
+            }
+            seen |= 1 << letter;
+            // the answer has exactly as many copies of a letter as the guess has
+            // colored copies if one of them was gray, otherwise at least that many
+            int colored = 0;
+            boolean gray = false;
+            for (int j = i; j < length; j++) {
+                if (letterAt(guess, j) == letter) {
+                    if (FeedbackScorer.digitAt(pattern, j) == FeedbackScorer.GRAY) {
+                        gray = true;
+                    } else {
+                        colored++;
+                    }
+                }
+            }
+            minCount[letter] = Math.max(minCount[letter], colored);
+            if (gray) {
+                maxCount[letter] = Math.min(maxCount[letter], colored);
+            }
+            if (maxCount[letter] == 0) {
+                // not in the answer at all, so it can't be at any position
+                excluded |= 1 << letter;
+                counted &= ~(1 << letter);
+                for (int p = 0; p < length; p++) {
+                    allowed[p] &= ~(1 << letter);
+                }
+            } else if (minCount[letter] > 0 || maxCount[letter] < length) {
+                counted |= 1 << letter;
+            }
+        }
+    }
+
+    /**
+     * Adds the feedback a guess got.
+     */
+    public void update(String guess, int pattern) {
+        update(scorer.pack(guess), pattern);
+    }
+
+    /**
+     * Returns true if a (packed) word fits all the feedback so far, i.e. it could
+     * still be the answer.
+     */
+    public boolean allows(long word) {
+        for (int i = 0; i < length; i++) {
+            if ((allowed[i] & (1 << letterAt(word, i))) == 0) {
+                return false;
+            }
+        }
+        for (int m = counted; m != 0; m &= m - 1) {
+            int letter = Integer.numberOfTrailingZeros(m);
+            int c = scorer.count(word, letter);
+            if (c < minCount[letter] || c > maxCount[letter]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean allows(String word) {
+        return allows(scorer.pack(word));
+    }
+
+    // fewest copies of a letter (code 1 to 26) the answer can have
+    public int getMinCount(int letter) {
+        return minCount[letter];
+    }
+
+    // most copies of a letter (code 1 to 26) the answer can have
+    public int getMaxCount(int letter) {
+        return maxCount[letter];
+    }
+
+    // bit per letter code that position i can still be
+    public int getAllowedMask(int i) {
+        return allowed[i];
+    }
+
+    /**
+     * Removes every word that doesn't fit the feedback from a candidate bitset
+     * over a 5 letter word bank, 64 words at a time using the bitsets of a
+     * LetterIndex.
+     */
+    public void filter(LetterIndex index, long[] candidates) {
+        if (length != FeedbackScorer.WORD_LENGTH) {
+            throw new IllegalArgumentException("LetterIndex only has 5 letter words");
+        }
+        for (int i = 0; i < length; i++) {
+            if (Integer.bitCount(allowed[i]) == 1) {
+                int letter = Integer.numberOfTrailingZeros(allowed[i]);
+                LetterIndex.and(candidates, index.withLetterAt(i, letter));
+                continue;
+            }
+            // letters missing from the whole answer are handled by the counts below
+            for (int m = ALL_LETTERS & ~allowed[i] & ~excluded; m != 0; m &= m - 1) {
+                int letter = Integer.numberOfTrailingZeros(m);
+                LetterIndex.andNot(candidates, index.withLetterAt(i, letter));
+            }
+        }
+        for (int m = excluded; m != 0; m &= m - 1) {
+            int letter = Integer.numberOfTrailingZeros(m);
+            LetterIndex.andNot(candidates, index.withAtLeast(letter, 1));
+        }
+        for (int m = counted; m != 0; m &= m - 1) {
+            int letter = Integer.numberOfTrailingZeros(m);
+            if (minCount[letter] > 0) {
+                LetterIndex.and(candidates, index.withAtLeast(letter, minCount[letter]));
+            }
+            if (maxCount[letter] < length) {
+                LetterIndex.andNot(candidates, index.withAtLeast(letter, maxCount[letter] + 1));
+            }
+        }
+    }
+
+    /**
+     * Removes every word that doesn't fit the feedback from a candidate bitset
+     * over a word bank of any word length (bit i is word number i), checking the
+     * words that are still set one by one.
+     *
+     * @return the number of candidates left
+     */
+    public int filter(WordDictionary d, long[] candidates) {
+        int left = 0;
+        for (int k = 0; k < candidates.length; k++) {
+            for (long bits = candidates[k]; bits != 0; bits &= bits - 1) {
+                int w = (k << 6) + Long.numberOfTrailingZeros(bits);
+                if (allows(d.longCodeAt(w))) {
+                    left++;
+                } else {
+                    candidates[k] &= ~(1L << w);
+                }
+            }
+        }
+        return left;
+    }
+
+    private static int letterAt(long word, int i) {
+        return (int) (word >>> (5 * i)) & 31;
+    }
+}
@@ -0,0 +1,83 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class ConstraintStateTest {
+    @Test
+    public void testHardModeRejectsGuessesThatIgnoreHints() {
+        Wordle1 w = new Wordle1();
+        w.setHardMode(true);
+        w.setWordleWord("SPENT");
+        Assertions.assertTrue(w.playTurn("arise")); // S and E yellow, A R I gray
+        Assertions.assertFalse(w.playTurn("count")); // no S or E
+        Assertions.assertFalse(w.playTurn("crane")); // A and R are gray
+        Assertions.assertEquals(1, w.getNumGuesses());
+        Assertions.assertTrue(w.playTurn("spend"));
+        Assertions.assertFalse(w.playTurn("split")); // P must stay green at 2
+        Assertions.assertTrue(w.playTurn("spent"));
+        Assertions.assertTrue(w.getWonGame());
+
+        // normal mode still accepts anything in the word bank
+        w.setHardMode(false);
+        w.reset();
+        w.setWordleWord("SPENT");
+        w.playTurn("arise");
+        Assertions.assertTrue(w.playTurn("count"));
+    }
+
+    @Test
+    public void testMatchesScoringEveryCandidate() {
+        WordDictionary d = WordDictionary.getInstance();
+        LetterIndex index = new LetterIndex(d);
+        Random r = new Random(3);
+        for (int game = 0; game < 30; game++) {
+            int target = d.codeAt(r.nextInt(d.size()));
+            ConstraintState c = new ConstraintState(FeedbackScorer.WORD_LENGTH);
+            int[] guesses = new int[3];
+            int[] patterns = new int[3];
+            for (int t = 0; t < guesses.length; t++) {
+                guesses[t] = d.codeAt(r.nextInt(d.size()));
+                patterns[t] = FeedbackScorer.score(guesses[t], target);
+                c.update(guesses[t], patterns[t]);
+
+                long[] bits = index.allWords();
+                c.filter(index, bits);
+                long[] scanned = index.allWords();
+                int left = c.filter(d, scanned);
+                for (int i = 0; i < d.size(); i++) {
+                    boolean fits = true;
+                    for (int k = 0; k <= t; k++) {
+                        fits &= FeedbackScorer.score(guesses[k], d.codeAt(i)) == patterns[k];
+                    }
+                    Assertions.assertEquals(fits, c.allows(d.codeAt(i)), d.wordAt(i));
+                    Assertions.assertEquals(fits, (bits[i >>> 6] & (1L << i)) != 0, d.wordAt(i));
+                }
+                Assertions.assertArrayEquals(bits, scanned);
+                Assertions.assertEquals(LetterIndex.cardinality(bits), left);
+                Assertions.assertTrue(c.allows(target));
+            }
+        }
+    }
+
+    @Test
+    public void testDuplicateLetterCounts() {
+        ConstraintState c = new ConstraintState(5);
+        // one E is yellow and the other gray: the answer has exactly one E
+        c.update("EERIE", FeedbackScorer.score("EERIE", "SPENT"));
+        Assertions.assertEquals(1, c.getMinCount(5));
+        Assertions.assertEquals(1, c.getMaxCount(5));
+        Assertions.assertTrue(c.allows("SPENT"));
+        Assertions.assertFalse(c.allows("STEEP"));
+
+        ConstraintState longer = new ConstraintState(8);
+        WordDictionary d = WordDictionary.of(List.of("aardvark", "sandbars", "barnyard"), 8);
+        longer.update("sandbars", WordScorer.forLength(8).score("SANDBARS", "BARNYARD"));
+        long[] all = { 0b111 };
+        Assertions.assertEquals(1, longer.filter(d, all));
+        Assertions.assertEquals(0b100, all[0]);
+    }
+}
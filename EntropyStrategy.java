@@ -0,0 +1,27 @@
+package org.gameProject.wordle1;
+
+/**
+ * Guesses the word WordleSolver ranks highest. The solver is rebuilt from the
+ * game's history on every call, so one EntropyStrategy can be shared by all the
+ * threads of a batch simulation.
+ */
+public class EntropyStrategy implements GuessStrategy {
+    private final String opener; // the first guess is always the same, so it's computed once
+
+    public EntropyStrategy() {
+        opener = new WordleSolver().bestGuess();
+    }
+
+    @Override
+    public String nextGuess(String[] guesses, int[] patterns, int turn) {
+        if (turn == 0) {
+            return opener;
+        }
+        WordleSolver solver = new WordleSolver();
+        for (int t = 0; t < turn; t++) {
+            solver.apply(guesses[t], patterns[t]);
+        }
+        String guess = solver.bestGuess();
+        return guess == null ? opener : guess;
+    }
+}
@@ -0,0 +1,382 @@
+package org.gameProject.wordle1;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * EventLog is the game's structured event stream: guesses, results, invalid
+ * input, bad settings and I/O failures, written as one JSON object per line. It replaces
+ * printing to System.out, whose synchronized, blocking writes slowed down every
+ * thread that printed.
+ *
+ * Recording an event never blocks and doesn't create any objects: the event's
+ * fields are copied into a slot of a fixed-size ring buffer that any number of
+ * threads can add to without locks (a slot is claimed with one compare-and-set).
+ * A background thread takes the events off the ring in batches, formats them and
+ * writes them to a file, which is rolled over to .1, .2, ... when it gets too
+ * big. If the writer falls behind and the ring is full, new events are dropped
+ * and counted instead of waiting.
+ *
+ * Guesses and results are recorded where a person plays (WordleGameBoard and
+ * GameSession), not in Wordle1, so simulations and replays of many games don't
+ * all go through the one ring.
+ *
+ * The shared log writes to wordle-events.log in the temp directory; start the
+ * JVM with -Dwordle.eventLog=<file> to pick another file or
+ * -Dwordle.eventLog=off to turn it off (the static methods then do nothing).
+ */
+public final class EventLog {
+    private static final String PROPERTY = System.getProperty("wordle.eventLog");
+    public static final boolean ENABLED = !"off".equals(PROPERTY);
+
+    public static final int DEFAULT_CAPACITY = 1 << 13; // events the ring can hold
+    public static final long DEFAULT_MAX_BYTES = 4L << 20; // file size before it rolls over
+    public static final int DEFAULT_KEEP = 3; // rolled-over files kept
+
+    private static final int BATCH = 256; // events formatted per write
+    private static final long IDLE_PARK_NANOS = 2_000_000; // writer sleep when the ring is empty
+
+    /**
+     * The kinds of event, with the names of their fields in the JSON.
+     */
+    public enum Type {
+        GUESS("guess", "target", "pattern"),
+        RESULT("target", null, "guesses"),
+        INVALID_INPUT("input", null, "guesses"),
+        IO_ERROR("operation", "error", null),
+        ERROR("where", "error", null),
+        CONFIG("setting", "problem", null);
+
+        final String keyA;
+        final String keyB;
+        final String keyValue;
+
+        Type(String keyA, String keyB, String keyValue) {
+            this.keyA = keyA;
+            this.keyB = keyB;
+            this.keyValue = keyValue;
+        }
+    }
+
+    private final Path path;
+    private final long maxBytes;
+    private final int keep;
+
+    // the ring: slot i holds the event with sequence number s when
+    // sequences[i] == s + 1; it is free for sequence s when sequences[i] == s
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final Type[] types;
+    private final long[] times;
+    private final Object[] as;
+    private final Object[] bs;
+    private final long[] values;
+    private final AtomicLong tail = new AtomicLong(); // next sequence to claim
+    private volatile long head; // next sequence the writer takes (only it writes head)
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Thread writer;
+    private volatile boolean closed;
+    private OutputStream out; // only used by the writer thread
+    private long written; // bytes in the current file
+
+    /**
+     * Starts a log that writes to path, rolling it over at maxBytes and keeping
+     * keep old files. capacity is rounded up to a power of two.
+     */
+    public EventLog(Path path, int capacity, long maxBytes, int keep) {
+        this.path = path;
+        this.maxBytes = maxBytes;
+        this.keep = keep;
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        mask = size - 1;
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        types = new Type[size];
+        times = new long[size];
+        as = new Object[size];
+        bs = new Object[size];
+        values = new long[size];
+        writer = new Thread(this::drainLoop, "wordle-event-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // the shared log, started the first time an event is recorded
+    private static final class Holder {
+        private static final EventLog INSTANCE = new EventLog(
+                PROPERTY != null ? Paths.get(PROPERTY)
+                        : Paths.get(System.getProperty("java.io.tmpdir"), "wordle-events.log"),
+                DEFAULT_CAPACITY, DEFAULT_MAX_BYTES, DEFAULT_KEEP
+        );
+
+        static {
+            // write what's left in the ring when the JVM exits
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::flush));
+        }
+    }
+
+    /**
+     * Returns the shared log.
+     */
+    public static EventLog get() {
+        return Holder.INSTANCE;
+    }
+
+    // a guess was accepted; pattern is its pattern id (see WordScorer)
+    public static void guess(String guess, String target, int pattern) {
+        if (ENABLED) {
+            get().record(Type.GUESS, guess, target, pattern);
+        }
+    }
+
+    // a game ended after the given number of guesses
+    public static void result(String target, boolean won, int guesses) {
+        if (ENABLED) {
+            get().record(Type.RESULT, target, won ? Boolean.TRUE : Boolean.FALSE, guesses);
+        }
+    }
+
+    // a guess was rejected; guesses is the number of guesses taken so far
+    public static void invalidInput(String input, int guesses) {
+        if (ENABLED) {
+            get().record(Type.INVALID_INPUT, input, null, guesses);
+        }
+    }
+
+    // reading or writing a file failed
+    public static void ioError(String operation, Throwable e) {
+        if (ENABLED) {
+            get().record(Type.IO_ERROR, operation, e, 0);
+        }
+    }
+
+    // a setting (e.g. a system property) was wrong and its default is used instead
+    public static void configError(String setting, String problem) {
+        if (ENABLED) {
+            get().record(Type.CONFIG, setting, problem, 0);
+        }
+    }
+
+    // something unexpected was thrown (the stack trace is written too)
+    public static void error(String where, Throwable e) {
+        if (ENABLED) {
+            get().record(Type.ERROR, where, e, 0);
+        }
+    }
+
+    /**
+     * Adds an event to the ring.
+     *
+     * @return false if the ring was full and the event was dropped
+     */
+    public boolean record(Type type, Object a, Object b, long value) {
+        if (closed) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        long seq;
+        int slot;
+        while (true) {
+            seq = tail.get();
+            slot = (int) seq & mask;
+            long free = sequences.get(slot);
+            if (free == seq) {
+                if (tail.compareAndSet(seq, seq + 1)) {
+                    break;
+                }
+            } else if (free < seq) {
+                // the writer hasn't taken the event a lap ago out of this slot
+                dropped.incrementAndGet();
+                return false;
+            }
+            // otherwise another thread claimed seq first, so try the next one
+        }
+        types[slot] = type;
+        times[slot] = System.currentTimeMillis();
+        as[slot] = a;
+        bs[slot] = b;
+        values[slot] = value;
+        sequences.lazySet(slot, seq + 1); // publishes the fields to the writer
+        return true;
+    }
+
+    // number of events dropped because the ring was full
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Waits (up to a second) until every event recorded before this call has been
+     * written to the file.
+     */
+    public void flush() {
+        long target = tail.get();
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (head < target && System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Writes the events recorded so far and stops the writer thread. Events
+     * recorded after this are dropped.
+     */
+    public void close() {
+        flush();
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // runs on the writer thread
+    private void drainLoop() {
+        StringBuilder sb = new StringBuilder();
+        while (!closed || head < tail.get()) {
+            int n = 0;
+            long h = head;
+            int slot = (int) h & mask;
+            while (n < BATCH && sequences.get(slot) == h + 1) {
+                format(sb, types[slot], times[slot], as[slot], bs[slot], values[slot]);
+                as[slot] = null; // don't keep the strings alive
+                bs[slot] = null;
+                sequences.lazySet(slot, h + mask + 1); // free for the next lap
+                h++;
+                slot = (int) h & mask;
+                n++;
+            }
+            if (n > 0) {
+                write(sb, n);
+                sb.setLength(0);
+                head = h;
+            } else if (!closed) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            } else {
+                break; // a claimed slot that was never published
+            }
+        }
+        try {
+            if (out != null) {
+                out.close();
+            }
+        } catch (IOException ignored) {
+            // nothing left to write
+        }
+    }
+
+    private static void format(StringBuilder sb, Type type, long time, Object a, Object b,
+            long value) {
+        sb.append("{\"time\":\"").append(Instant.ofEpochMilli(time))
+                .append("\",\"event\":\"").append(type).append('"');
+        field(sb, type.keyA, a);
+        if (type == Type.RESULT) {
+            sb.append(",\"won\":").append(b);
+        } else {
+            field(sb, type.keyB, b);
+        }
+        if (type.keyValue != null) {
+            sb.append(",\"").append(type.keyValue).append("\":").append(value);
+        }
+        sb.append("}\n");
+    }
+
+    private static void field(StringBuilder sb, String key, Object value) {
+        if (key == null || value == null) {
+            return;
+        }
+        String s;
+        if (value instanceof Throwable) {
+            StringWriter trace = new StringWriter();
+            ((Throwable) value).printStackTrace(new PrintWriter(trace));
+            s = trace.toString().trim();
+        } else {
+            s = value.toString();
+        }
+        sb.append(",\"").append(key).append("\":\"");
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c == '\n') {
+                sb.append("\\n");
+            } else if (c == '\t') {
+                sb.append("\\t");
+            } else if (c >= ' ') {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    // appends a batch to the file, rolling it over first if it's too big
+    private void write(StringBuilder sb, int events) {
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            if (out != null && written + bytes.length > maxBytes) {
+                out.close();
+                out = null;
+                roll();
+            }
+            if (out == null) {
+                out = Files.newOutputStream(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+                written = Files.size(path);
+            }
+            out.write(bytes);
+            out.flush();
+            written += bytes.length;
+        } catch (IOException e) {
+            // nowhere to log this: the batch counts as dropped and the file is
+            // reopened for the next one
+            dropped.addAndGet(events);
+            try {
+                if (out != null) {
+                    out.close();
+                }
+            } catch (IOException ignored) {
+                // already failed
+            }
+            out = null;
+        }
+    }
+
+    // log -> log.1 -> log.2 ..., dropping the oldest
+    private void roll() throws IOException {
+        for (int i = keep - 1; i >= 1; i--) {
+            Path from = path.resolveSibling(path.getFileName() + "." + i);
+            if (Files.exists(from)) {
+                Files.move(from, path.resolveSibling(path.getFileName() + "." + (i + 1)),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (keep > 0) {
+            Files.move(path, path.resolveSibling(path.getFileName() + ".1"),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class EventLogTest {
+    @Test
+    public void testConcurrentEventsAreAllWritten(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("events.log");
+        EventLog log = new EventLog(path, 1 << 14, 1L << 30, 1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String guess = "guess" + t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    log.record(EventLog.Type.GUESS, guess, "CRANE", i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join();
+        }
+        log.close();
+
+        List<String> lines = Files.readAllLines(path);
+        Assertions.assertEquals(0, log.getDropped());
+        Assertions.assertEquals(4000, lines.size());
+        Assertions.assertTrue(lines.get(0).contains("\"event\":\"GUESS\""));
+        Assertions.assertEquals(1000,
+                lines.stream().filter(l -> l.contains("\"guess\":\"guess2\"")).count());
+        Assertions.assertFalse(log.record(EventLog.Type.GUESS, "late", "CRANE", 0));
+    }
+
+    @Test
+    public void testErrorsAreEscapedAndFilesRollOver(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("events.log");
+        EventLog log = new EventLog(path, 64, 1024, 2);
+        IOException e = new IOException("disk\nfull");
+        e.setStackTrace(new StackTraceElement[] {
+                new StackTraceElement("Game", "save", "Game.java", 1)
+        });
+        for (int i = 0; i < 20; i++) {
+            log.record(EventLog.Type.IO_ERROR, "save \"game\"", e, 0);
+            log.flush(); // one batch per event, so the file rolls over between them
+        }
+        log.close();
+
+        Assertions.assertTrue(Files.exists(dir.resolve("events.log.1")));
+        Assertions.assertTrue(Files.exists(dir.resolve("events.log.2")));
+        Assertions.assertFalse(Files.exists(dir.resolve("events.log.3")));
+        String line = Files.readAllLines(path).get(0);
+        Assertions.assertTrue(line.contains("\"operation\":\"save \\\"game\\\"\""));
+        Assertions.assertTrue(line.contains("java.io.IOException: disk\\nfull\\n\\tat "));
+        Assertions.assertTrue(Files.size(path) <= 1024);
+    }
+
+    @Test
+    public void testConfigErrorsAreLogged(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("events.log");
+        EventLog log = new EventLog(path, 64, 1024, 2);
+        log.record(EventLog.Type.CONFIG, "wordle.mode", "Invalid mode: 3x6, playing classic", 0);
+        log.close();
+        String line = Files.readAllLines(path).get(0);
+        Assertions.assertTrue(line.contains("\"event\":\"CONFIG\""), line);
+        Assertions.assertTrue(line.contains("\"setting\":\"wordle.mode\""), line);
+        Assertions.assertTrue(line.contains("\"problem\":\"Invalid mode: 3x6, playing classic\""));
+    }
+}
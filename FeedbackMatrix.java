@@ -0,0 +1,204 @@
+package org.gameProject.wordle1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ * FeedbackMatrix stores the pattern id (see FeedbackScorer) of every
+ * (guess, answer) pair in a word bank, one byte per pair, so solvers and
+ * analytics can look up a score instead of computing it.
+ *
+ * The matrix can be saved to a binary file and reopened later with a
+ * memory-mapped buffer, so it only has to be built once. The file starts with a
+ * small header (magic number, format version, number of words and a hash of the
+ * word list), and a file whose header doesn't match the current word bank is
+ * treated as stale and rebuilt.
+ */
+public final class FeedbackMatrix {
+    // default location of the cached matrix, next to the word bank
+    public static final Path CACHE_PATH = Paths
+            .get("src/main/java/org/gameProject/wordle1/WordleFeedback.bin");
+
+    private static final int MAGIC = 0x574D4154; // "WMAT"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24; // magic, version, size (ints), hash (long), padding
+
+    // the matrix has size * size cells and a buffer is indexed by int
+    public static final int MAX_WORDS = 46340;
+
+    private final int size;
+    private final long wordsHash;
+    private final ByteBuffer cells; // cell (guess, answer) is at guess * size + answer
+
+    private FeedbackMatrix(int size, long wordsHash, ByteBuffer cells) {
+        this.size = size;
+        this.wordsHash = wordsHash;
+        this.cells = cells;
+    }
+
+    // matrix for the shared word bank, loaded from (or saved to) CACHE_PATH
+    private static final class Holder {
+        private static final FeedbackMatrix INSTANCE = getOrBuild(
+                defaultCachePath(), WordDictionary.getInstance()
+        );
+    }
+
+    // CACHE_PATH, or the temp directory when the game isn't run from the project directory
+    private static Path defaultCachePath() {
+        if (Files.isDirectory(CACHE_PATH.toAbsolutePath().getParent())) {
+            return CACHE_PATH;
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), CACHE_PATH.getFileName().toString());
+    }
+
+    /**
+     * Returns the matrix for the shared word bank, building it the first time
+     * this is called if there is no up-to-date cache file.
+     */
+    public static FeedbackMatrix getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getWordsHash() {
+        return wordsHash;
+    }
+
+    /**
+     * Returns the pattern id of guessing word number guess when the answer is
+     * word number answer.
+     */
+    public int get(int guess, int answer) {
+        return cells.get(guess * size + answer) & 0xFF;
+    }
+
+    /**
+     * Computes the matrix in memory. Rows are scored in parallel.
+     */
+    public static FeedbackMatrix build(WordDictionary d) {
+        int n = d.size();
+        if (n > MAX_WORDS) {
+            throw new IllegalArgumentException("Too many words for a feedback matrix: " + n);
+        }
+        byte[] data = new byte[n * n];
+        int[] codes = new int[n];
+        for (int i = 0; i < n; i++) {
+            codes[i] = d.codeAt(i);
+        }
+        IntStream.range(0, n).parallel().forEach(g -> {
+            int row = g * n;
+            int guess = codes[g];
+            for (int a = 0; a < n; a++) {
+                data[row + a] = (byte) FeedbackScorer.score(guess, codes[a]);
+            }
+        });
+        return new FeedbackMatrix(n, hashWords(d), ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Opens a saved matrix with a read-only memory map.
+     *
+     * @return the matrix, or null if the file doesn't exist or was built from a
+     *         different word list (or by a different version of this class)
+     */
+    public static FeedbackMatrix open(Path path, WordDictionary d) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            int n = d.size();
+            if (ch.size() != HEADER_BYTES + (long) n * n) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && ch.read(header) >= 0) {
+                // keep reading until the header is full
+            }
+            header.flip();
+            long hash = hashWords(d);
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC
+                    || header.getInt() != VERSION || header.getInt() != n
+                    || header.getLong() != hash) {
+                return null;
+            }
+            // the mapping stays valid after the channel is closed
+            ByteBuffer cells = ch.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) n * n);
+            return new FeedbackMatrix(n, hash, cells);
+        }
+    }
+
+    /**
+     * Saves the matrix to a file. The data is written to a temporary file first,
+     * so a reader never sees a half-written matrix.
+     */
+    public void write(Path path) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(dir, "feedback", ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(size).putLong(wordsHash);
+            header.position(HEADER_BYTES).flip();
+            while (header.hasRemaining()) {
+                ch.write(header);
+            }
+            ByteBuffer data = cells.duplicate();
+            data.clear();
+            while (data.hasRemaining()) {
+                ch.write(data);
+            }
+            ch.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Opens the matrix saved at path, or builds it (and tries to save it) if the
+     * file is missing or stale. If the file can't be written, the matrix built in
+     * memory is still returned.
+     */
+    public static FeedbackMatrix getOrBuild(Path path, WordDictionary d) {
+        try {
+            FeedbackMatrix m = open(path, d);
+            if (m != null) {
+                return m;
+            }
+        } catch (IOException e) {
+            EventLog.ioError("read feedback matrix " + path, e);
+        }
+        FeedbackMatrix m = build(d);
+        try {
+            m.write(path);
+        } catch (IOException e) {
+            EventLog.ioError("save feedback matrix " + path, e);
+        }
+        return m;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the word list (in order), used to detect stale files.
+     */
+    public static long hashWords(WordDictionary d) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < d.size(); i++) {
+            for (byte b : d.wordAt(i).getBytes(StandardCharsets.UTF_8)) {
+                h ^= b & 0xFF;
+                h *= 0x100000001b3L;
+            }
+            h ^= '\n';
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,49 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public class FeedbackMatrixTest {
+    @Test
+    public void testMatrixMatchesScorer() {
+        WordDictionary d = WordDictionary.of(List.of("spent", "eerie", "crane", "hello", "llama"));
+        FeedbackMatrix m = FeedbackMatrix.build(d);
+        Assertions.assertEquals(5, m.size());
+        for (int g = 0; g < d.size(); g++) {
+            for (int a = 0; a < d.size(); a++) {
+                Assertions.assertEquals(
+                        FeedbackScorer.score(d.wordAt(g), d.wordAt(a)), m.get(g, a)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testSaveAndReopen(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("matrix.bin");
+        WordDictionary d = WordDictionary.of(List.of("spent", "eerie", "crane"));
+        FeedbackMatrix.build(d).write(file);
+
+        FeedbackMatrix reopened = FeedbackMatrix.open(file, d);
+        Assertions.assertNotNull(reopened);
+        Assertions.assertEquals(FeedbackScorer.ALL_GREEN, reopened.get(2, 2));
+        Assertions.assertEquals(FeedbackScorer.score("eerie", "spent"), reopened.get(1, 0));
+    }
+
+    @Test
+    public void testStaleFileIsRebuilt(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("matrix.bin");
+        FeedbackMatrix.build(WordDictionary.of(List.of("spent", "eerie", "crane"))).write(file);
+
+        // same number of words, different list
+        WordDictionary changed = WordDictionary.of(List.of("spent", "eerie", "arise"));
+        Assertions.assertNull(FeedbackMatrix.open(file, changed));
+        FeedbackMatrix rebuilt = FeedbackMatrix.getOrBuild(file, changed);
+        Assertions.assertEquals(FeedbackScorer.ALL_GREEN, rebuilt.get(2, 2));
+        Assertions.assertNotNull(FeedbackMatrix.open(file, changed)); // saved again
+    }
+}
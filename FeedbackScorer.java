@@ -0,0 +1,146 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * FeedbackScorer computes the colors of a guess without creating any objects.
+ *
+ * Words are packed into a single int, 5 bits per letter (A = 1 ... Z = 26, 0 for
+ * anything that isn't a letter), with the first letter in the lowest bits. The
+ * result of scoring a guess is a pattern id from 0 to 242: a base-3 number where
+ * digit i (3^i) is the color of letter i (0 gray, 1 yellow, 2 green).
+ *
+ * Duplicate letters are scored the same way as the real game: a letter is only
+ * yellow as many times as it appears in the unmatched letters of the answer.
+ */
+public final class FeedbackScorer {
+    public static final int WORD_LENGTH = 5;
+
+    // digit values of a pattern
+    public static final int GRAY = 0;
+    public static final int YELLOW = 1;
+    public static final int GREEN = 2;
+
+    public static final int NUM_PATTERNS = 243; // 3^5
+    public static final int ALL_GREEN = NUM_PATTERNS - 1;
+
+    private static final int LETTER_BITS = 5;
+    private static final int LETTER_MASK = (1 << LETTER_BITS) - 1;
+    // powers of 3 up to the longest word a long can hold (see WordScorer)
+    private static final int[] POW3 = {
+            1, 3, 9, 27, 81, 243, 729, 2187, 6561, 19683, 59049, 177147
+    };
+
+    // getColors-style list (green: 1, yellow: 0, gray: -1) for every pattern,
+    // built once so the adapter doesn't allocate either
+    private static final List<List<Integer>> COLOR_LISTS = buildColorLists();
+
+    // scores 5 letter words (an int is just a long with the high bits 0)
+    private static final WordScorer SCORER = WordScorer.forLength(WORD_LENGTH);
+
+    private FeedbackScorer() {
+    }
+
+    /**
+     * Packs the first 5 letters of s into an int, ignoring surrounding white space
+     * and casing. Missing letters are packed as 0.
+     */
+    public static int pack(CharSequence s) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && Character.isWhitespace(s.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(s.charAt(end - 1))) {
+            end--;
+        }
+        int code = 0;
+        for (int i = 0; i < WORD_LENGTH && start + i < end; i++) {
+            code |= letterCode(s.charAt(start + i)) << (LETTER_BITS * i);
+        }
+        return code;
+    }
+
+    /**
+     * Packs the letters of a char array (see pack(CharSequence)).
+     */
+    public static int pack(char[] letters) {
+        int code = 0;
+        for (int i = 0; i < WORD_LENGTH && i < letters.length; i++) {
+            code |= letterCode(letters[i]) << (LETTER_BITS * i);
+        }
+        return code;
+    }
+
+    // A/a = 1 ... Z/z = 26, anything else 0
+    static int letterCode(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 1;
+        }
+        return 0;
+    }
+
+    // returns the letter code at position i of a packed word
+    public static int letterAt(int packed, int i) {
+        return (packed >>> (LETTER_BITS * i)) & LETTER_MASK;
+    }
+
+    /**
+     * Turns a packed word back into an uppercase String.
+     */
+    public static String unpack(int packed) {
+        char[] letters = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int c = letterAt(packed, i);
+            letters[i] = c == 0 ? '?' : (char) ('A' + c - 1);
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Scores a packed guess against a packed answer.
+     *
+     * @return the pattern id (0 to 242)
+     */
+    public static int score(int guess, int target) {
+        return SCORER.score(guess, target);
+    }
+
+    /**
+     * Scores a guess against an answer, ignoring surrounding white space and casing.
+     */
+    public static int score(CharSequence guess, CharSequence target) {
+        return score(pack(guess), pack(target));
+    }
+
+    // returns the color digit (GRAY, YELLOW or GREEN) of letter i in a pattern
+    // (for patterns of any word length)
+    public static int digitAt(int pattern, int i) {
+        return (pattern / POW3[i]) % 3;
+    }
+
+    /**
+     * Returns the pattern as the list getColors has always returned
+     * (green: 1, yellow: 0, gray: -1). The list is shared and can't be modified.
+     */
+    public static List<Integer> toColors(int pattern) {
+        return COLOR_LISTS.get(pattern);
+    }
+
+    private static List<List<Integer>> buildColorLists() {
+        List<List<Integer>> lists = new ArrayList<>(NUM_PATTERNS);
+        for (int p = 0; p < NUM_PATTERNS; p++) {
+            List<Integer> colors = new ArrayList<>(WORD_LENGTH);
+            for (int i = 0; i < WORD_LENGTH; i++) {
+                colors.add(digitAt(p, i) - 1);
+            }
+            lists.add(Collections.unmodifiableList(colors));
+        }
+        return Collections.unmodifiableList(lists);
+    }
+}
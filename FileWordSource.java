@@ -0,0 +1,29 @@
+package org.gameProject.wordle1;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads a plain text word list (one word per line) from a file.
+ */
+public class FileWordSource implements WordSource {
+    private final Path path;
+
+    public FileWordSource(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public PackedWordList load(int wordLength) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return PackedWordList.parse(in, wordLength);
+        }
+    }
+
+    @Override
+    public String describe() {
+        return path.toString();
+    }
+}
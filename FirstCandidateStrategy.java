@@ -0,0 +1,40 @@
+package org.gameProject.wordle1;
+
+/**
+ * Simple baseline strategy: opens with a fixed word, then guesses the first word
+ * in the word bank that agrees with all the feedback so far.
+ */
+public class FirstCandidateStrategy implements GuessStrategy {
+    private final WordDictionary dictionary;
+    private final int opener; // packed first guess
+
+    public FirstCandidateStrategy(WordDictionary dictionary, String opener) {
+        this.dictionary = dictionary;
+        this.opener = FeedbackScorer.pack(opener);
+    }
+
+    @Override
+    public String nextGuess(String[] guesses, int[] patterns, int turn) {
+        if (turn == 0) {
+            return FeedbackScorer.unpack(opener);
+        }
+        int[] packedGuesses = new int[turn];
+        for (int t = 0; t < turn; t++) {
+            packedGuesses[t] = FeedbackScorer.pack(guesses[t]);
+        }
+        for (int i = 0; i < dictionary.size(); i++) {
+            int candidate = dictionary.codeAt(i);
+            boolean consistent = true;
+            // a candidate could still be the answer if every previous guess
+            // would have gotten the same colors against it
+            for (int t = 0; t < turn && consistent; t++) {
+                consistent = FeedbackScorer.score(packedGuesses[t], candidate) == patterns[t];
+            }
+            if (consistent) {
+                return dictionary.wordAt(i);
+            }
+        }
+        // nothing fits (the answer isn't in the word bank), so just repeat the opener
+        return FeedbackScorer.unpack(opener);
+    }
+}
@@ -0,0 +1,134 @@
+package org.gameProject.wordle1;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * FrequencySketch counts how often packed words (see PackedWordList) are seen
+ * in a fixed amount of memory, however many different words there are. Counts
+ * are kept in a count-min sketch: each word adds to one counter in each of
+ * DEPTH rows (picked by a different hash per row), and a word's count is the
+ * smallest of its counters, which can be too high (when other words share all
+ * its counters) but never too low.
+ *
+ * It also keeps the TOP words with the highest counts seen so far, so the most
+ * frequent words can be listed without storing every word.
+ *
+ * Not thread-safe; the owner synchronizes.
+ */
+public final class FrequencySketch {
+    static final int DEPTH = 4;
+    static final int WIDTH = 1024; // counters per row, a power of two
+    public static final int TOP = 10;
+
+    private final int[] counters = new int[DEPTH * WIDTH];
+    private final long[] topWords = new long[TOP];
+    private final int[] topCounts = new int[TOP];
+    private int topSize;
+
+    private static int slot(long code, int row) {
+        long h = (code + row) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        return row * WIDTH + (int) (h >>> 40) % WIDTH;
+    }
+
+    /**
+     * Adds one sighting of a packed word.
+     */
+    public void add(long code) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int s = slot(code, row);
+            counters[s]++;
+            estimate = Math.min(estimate, counters[s]);
+        }
+        updateTop(code, estimate);
+    }
+
+    /**
+     * Returns how many times a packed word was added (maybe more, never less).
+     */
+    public int estimate(long code) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters[slot(code, row)]);
+        }
+        return estimate;
+    }
+
+    // keeps the TOP words with the highest estimates
+    private void updateTop(long code, int estimate) {
+        int min = 0;
+        for (int i = 0; i < topSize; i++) {
+            if (topWords[i] == code) {
+                topCounts[i] = estimate;
+                return;
+            }
+            if (topCounts[i] < topCounts[min]) {
+                min = i;
+            }
+        }
+        if (topSize < TOP) {
+            topWords[topSize] = code;
+            topCounts[topSize++] = estimate;
+        } else if (estimate > topCounts[min]) {
+            topWords[min] = code;
+            topCounts[min] = estimate;
+        }
+    }
+
+    // number of words in the top list
+    public int getTopSize() {
+        return topSize;
+    }
+
+    /**
+     * Returns the packed word with the n-th highest count in the top list (n = 0
+     * is the most frequent).
+     */
+    public long getTopWord(int n) {
+        return topWords[sortedTop()[n]];
+    }
+
+    public int getTopCount(int n) {
+        return topCounts[sortedTop()[n]];
+    }
+
+    // indexes of the top list from highest to lowest count
+    private int[] sortedTop() {
+        int[] order = new int[topSize];
+        for (int i = 0; i < topSize; i++) {
+            int j = i;
+            while (j > 0 && topCounts[order[j - 1]] < topCounts[i]) {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = i;
+        }
+        return order;
+    }
+
+    void write(DataOutput out) throws IOException {
+        for (int c : counters) {
+            out.writeInt(c);
+        }
+        out.writeByte(topSize);
+        for (int i = 0; i < topSize; i++) {
+            out.writeLong(topWords[i]);
+            out.writeInt(topCounts[i]);
+        }
+    }
+
+    void read(DataInput in) throws IOException {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = in.readInt();
+        }
+        topSize = Math.min(in.readUnsignedByte(), TOP);
+        for (int i = 0; i < topSize; i++) {
+            topWords[i] = in.readLong();
+            topCounts[i] = in.readInt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+
+/**
+ * GameController sits between the Swing widgets in RunWordle1 and the
+ * WordleGameBoard. Button presses are queued, and a single background thread
+ * does the model and file work for them in order (validation, scoring, the
+ * solver, the journal), so none of it runs on the Event Dispatch Thread. The
+ * view updates that come out of the work are handed back to the EDT in the same
+ * order.
+ *
+ * Bursts of input are handled together: everything queued is worked through in
+ * one go, the view updates are published to the EDT as one batch, and repeated
+ * Reset or Hint presses in a row only count once.
+ */
+public class GameController {
+    private final WordleGameBoard board;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "wordle-controller");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ConcurrentLinkedQueue<Command> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    // a queued action; work does the model part and returns the view update
+    private static final class Command {
+        final String coalesceKey; // consecutive commands with the same key run once
+        final Supplier<Runnable> work;
+
+        Command(String coalesceKey, Supplier<Runnable> work) {
+            this.coalesceKey = coalesceKey;
+            this.work = work;
+        }
+    }
+
+    public GameController(WordleGameBoard board) {
+        this.board = board;
+    }
+
+    public void guess(String s) {
+        submit(new Command(null, () -> board.playGuess(s)));
+    }
+
+    public void reset() {
+        submit(new Command("reset", board::resetGame));
+    }
+
+    public void load(JFrame f) {
+        submit(new Command(null, () -> board.loadGame(f, false)));
+    }
+
+    public void save(JFrame f) {
+        submit(new Command(null, () -> board.saveGame(f)));
+    }
+
+    public void hint() {
+        submit(new Command("hint", board::hint));
+    }
+
+    private void submit(Command c) {
+        queue.add(c);
+        if (draining.compareAndSet(false, true)) {
+            worker.execute(this::drain);
+        }
+    }
+
+    // runs on the worker thread: works through everything queued so far
+    private void drain() {
+        List<Runnable> updates = new ArrayList<>();
+        try {
+            Command c = queue.poll();
+            while (c != null) {
+                Command next = queue.poll();
+                boolean repeated = next != null && c.coalesceKey != null
+                        && c.coalesceKey.equals(next.coalesceKey);
+                if (!repeated) {
+                    try {
+                        updates.add(c.work.get());
+                    } catch (RuntimeException e) {
+                        // keep the controller alive for the next command
+                        EventLog.error("GameController", e);
+                    }
+                }
+                c = next;
+            }
+        } catch (Error e) {
+            EventLog.error("GameController", e);
+            throw e;
+        } finally {
+            if (!updates.isEmpty()) {
+                SwingUtilities.invokeLater(() -> updates.forEach(Runnable::run));
+            }
+            // otherwise an Error would leave draining set and no command would ever run again
+            draining.set(false);
+            // a command may have been queued after the last poll but before draining was cleared
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                worker.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread after the queued commands are done.
+     */
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
@@ -0,0 +1,627 @@
+package org.gameProject.wordle1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.zip.CRC32;
+
+/**
+ * GameJournal is an append-only binary log of game events (a new game with its
+ * target, a guess with its pattern, the result) for any number of games. Saving
+ * a game only appends the events that happened since the last save.
+ *
+ * File layout: an 8 byte header (magic number and format version), then records.
+ * A record is
+ *   int length of the body, body, int CRC32 of the body
+ * and the body is
+ *   byte type, long game id, long offset of the game's previous record (-1 if none), data.
+ * The previous-record offsets chain each game's records together, and an index
+ * from game id to the offset of its latest record means one game can be read
+ * without scanning the others.
+ *
+ * The index is checkpointed to a file next to the journal (its name plus
+ * INDEX_SUFFIX) on close and after every CHECKPOINT_BYTES of commits, with the
+ * position it covers and the CRC of the record that ends there. Opening reads
+ * the checkpoint and only scans the records after it; if the checkpoint is
+ * missing, damaged or doesn't fit the journal, the whole file is scanned.
+ *
+ * A game can also have snapshots (see GameSnapshot) of its whole state, so it
+ * can be restored from its latest snapshot in one read instead of replaying
+ * its guesses.
+ *
+ * Appends go into a buffer; commit() writes it out and forces the file to disk.
+ * When several threads commit at once, one force covers all of them (group
+ * commit). A record cut off by a crash is detected by its length/CRC and dropped
+ * the next time the journal is opened.
+ */
+public final class GameJournal implements Closeable {
+    static final int MAGIC = 0x574A4E4C; // "WJNL"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+
+    static final byte NEW_GAME = 1; // data: target word, byte guess limit (left out for 6)
+    static final byte GUESS = 2; // data: guess word, int pattern
+    static final byte RESULT = 3; // data: byte won, byte number of guesses
+    static final byte SNAPSHOT = 4; // data: see appendSnapshot
+    static final byte MODE_SNAPSHOT = 5; // data: see appendSnapshot
+
+    static final int BODY_PREFIX = 1 + 8 + 8; // type, game id, previous offset
+    static final int MAX_RECORD = 1 << 16;
+
+    public static final String INDEX_SUFFIX = ".idx";
+    static final int INDEX_MAGIC = 0x574A4958; // "WJIX"
+    static final long CHECKPOINT_BYTES = 1 << 20;
+    private static final int SCAN_BYTES = 4 * MAX_RECORD; // must hold the largest record
+
+    private final Path indexPath;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private final CRC32 crc = new CRC32();
+    private final OffsetIndex index = new OffsetIndex();
+    private long writePosition; // file position of the next record (buffered or not)
+    private long nextGameId;
+    private long lastGameId = -1;
+    private int lastCrc; // CRC of the record that ends at writePosition
+    private long checkpointPosition; // position covered by the index file
+
+    private final Object syncLock = new Object();
+    private volatile long durablePosition; // everything before this has been forced
+
+    private GameJournal(Path path, FileChannel channel) {
+        this.indexPath = path.resolveSibling(path.getFileName() + INDEX_SUFFIX);
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a journal, creating the file if it doesn't exist.
+     */
+    public static GameJournal open(Path path) throws IOException {
+        FileChannel ch = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+        GameJournal j = new GameJournal(path, ch);
+        try {
+            j.recover();
+        } catch (IOException e) {
+            ch.close();
+            throw e;
+        }
+        return j;
+    }
+
+    // reads the header, the index checkpoint and the records after it, and cuts
+    // off a torn tail
+    private void recover() throws IOException {
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+            header.flip();
+            writeFully(header, 0);
+            channel.force(true);
+            Files.deleteIfExists(indexPath); // left from an earlier journal of the same name
+            writePosition = HEADER_BYTES;
+            durablePosition = writePosition;
+            return;
+        }
+        ByteBuffer header = readAt(0, HEADER_BYTES);
+        if (header == null || header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("Not a game journal");
+        }
+        long size = channel.size();
+        long pos = readCheckpoint(size);
+        checkpointPosition = pos;
+
+        // one pass through a buffer over the rest of the file
+        ByteBuffer b = ByteBuffer.allocate(SCAN_BYTES).flip();
+        long next = pos; // file position of the end of the buffered bytes
+        while (pos + 4 <= size) {
+            if (b.remaining() < 4) {
+                next = fill(b, next, size);
+            }
+            int length = b.getInt(b.position());
+            if (length < BODY_PREFIX || length > MAX_RECORD || pos + 8 + length > size) {
+                break;
+            }
+            if (b.remaining() < 8 + length) {
+                next = fill(b, next, size);
+            }
+            int body = b.position() + 4;
+            if (!checksumMatches(b, body, length)) {
+                break;
+            }
+            byte type = b.get(body);
+            long gameId = b.getLong(body + 1);
+            index.put(gameId, pos);
+            if (type == NEW_GAME) {
+                nextGameId = Math.max(nextGameId, gameId + 1);
+                lastGameId = gameId;
+            }
+            lastCrc = b.getInt(body + length);
+            b.position(body + length + 4);
+            pos += 8 + length;
+        }
+        if (pos != size) {
+            channel.truncate(pos);
+        }
+        writePosition = pos;
+        durablePosition = pos;
+    }
+
+    // moves the unread bytes to the start of b and reads more after them
+    private long fill(ByteBuffer b, long next, long size) throws IOException {
+        b.compact();
+        while (b.hasRemaining() && next < size) {
+            int n = channel.read(b, next);
+            if (n < 0) {
+                break;
+            }
+            next += n;
+        }
+        b.flip();
+        return next;
+    }
+
+    // whether the CRC after b[start, start + length) matches it
+    private boolean checksumMatches(ByteBuffer b, int start, int length) {
+        crc.reset();
+        ByteBuffer data = b.duplicate();
+        data.limit(start + length).position(start);
+        crc.update(data);
+        return (int) crc.getValue() == b.getInt(start + length);
+    }
+
+    /**
+     * Loads the index checkpoint if it fits this journal of size bytes.
+     *
+     * @return the position the checkpoint covers, or HEADER_BYTES if there is none
+     */
+    private long readCheckpoint(long size) throws IOException {
+        ByteBuffer b;
+        try {
+            b = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+        } catch (NoSuchFileException e) {
+            return HEADER_BYTES;
+        }
+        int headerBytes = 4 + 4 + 8 + 4 + 8 + 8 + 4;
+        if (b.remaining() < headerBytes + 4 || b.getInt(0) != INDEX_MAGIC
+                || b.getInt(4) != VERSION) {
+            return HEADER_BYTES;
+        }
+        crc.reset();
+        crc.update(b.array(), 0, b.remaining() - 4);
+        if ((int) crc.getValue() != b.getInt(b.remaining() - 4)) {
+            return HEADER_BYTES;
+        }
+        b.position(8);
+        long position = b.getLong();
+        int crcBefore = b.getInt();
+        long next = b.getLong();
+        long last = b.getLong();
+        int count = b.getInt();
+        if (position < HEADER_BYTES || position > size || count < 0
+                || b.remaining() != (long) count * 16 + 4) {
+            return HEADER_BYTES;
+        }
+        // the journal must still end a record there with the same CRC
+        if (position > HEADER_BYTES && readAt(position - 4, 4).getInt() != crcBefore) {
+            return HEADER_BYTES;
+        }
+        for (int i = 0; i < count; i++) {
+            index.put(b.getLong(), b.getLong());
+        }
+        nextGameId = next;
+        lastGameId = last;
+        lastCrc = crcBefore;
+        return position;
+    }
+
+    // the index checkpoint for everything written so far (the buffer must be flushed)
+    private ByteBuffer encodeCheckpoint() {
+        long[] keys = index.keys();
+        ByteBuffer b = ByteBuffer.allocate(4 + 4 + 8 + 4 + 8 + 8 + 4 + keys.length * 16 + 4);
+        b.putInt(INDEX_MAGIC).putInt(VERSION).putLong(writePosition).putInt(lastCrc)
+                .putLong(nextGameId).putLong(lastGameId).putInt(keys.length);
+        for (long k : keys) {
+            b.putLong(k).putLong(index.get(k));
+        }
+        crc.reset();
+        crc.update(b.array(), 0, b.position());
+        b.putInt((int) crc.getValue());
+        return b.flip();
+    }
+
+    // replaces the index file; a failure only means the next open scans more
+    private void writeCheckpoint(ByteBuffer b, long position) {
+        try {
+            Path tmp = Files.createTempFile(
+                    indexPath.toAbsolutePath().getParent(), "journal", ".tmp"
+            );
+            Files.write(tmp, Arrays.copyOf(b.array(), b.limit()));
+            Files.move(tmp, indexPath, StandardCopyOption.REPLACE_EXISTING);
+            checkpointPosition = position;
+        } catch (IOException e) {
+            EventLog.ioError("write journal index " + indexPath, e);
+        }
+    }
+
+    /**
+     * Starts a new game (with the usual 6 guesses) in the journal.
+     *
+     * @return the id of the new game
+     */
+    public long newGame(String target) throws IOException {
+        return newGame(target, Wordle1.MAX_GUESSES);
+    }
+
+    /**
+     * Starts a new game with the given guess limit in the journal. The game's
+     * mode is its target's length and the guess limit.
+     *
+     * @return the id of the new game
+     */
+    public synchronized long newGame(String target, int maxGuesses) throws IOException {
+        long id = nextGameId++;
+        byte[] word = target.getBytes(StandardCharsets.UTF_8);
+        boolean classic = maxGuesses == Wordle1.MAX_GUESSES;
+        ByteBuffer b = beginRecord(NEW_GAME, id, 1 + word.length + (classic ? 0 : 1));
+        b.put((byte) word.length).put(word);
+        if (!classic) {
+            b.put((byte) maxGuesses);
+        }
+        endRecord(id);
+        lastGameId = id;
+        return id;
+    }
+
+    /**
+     * Appends a guess (and the pattern id it got) to a game.
+     */
+    public synchronized void appendGuess(long gameId, String guess, int pattern)
+            throws IOException {
+        byte[] word = guess.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer b = beginRecord(GUESS, gameId, 1 + word.length + 4);
+        b.put((byte) word.length).put(word).putInt(pattern);
+        endRecord(gameId);
+    }
+
+    /**
+     * Appends the result of a finished game.
+     */
+    public synchronized void appendResult(long gameId, boolean won, int numGuesses)
+            throws IOException {
+        ByteBuffer b = beginRecord(RESULT, gameId, 2);
+        b.put((byte) (won ? 1 : 0)).put((byte) numGuesses);
+        endRecord(gameId);
+    }
+
+    /**
+     * Appends a snapshot of a game's whole state. For a classic game the data is
+     * the packed target (int), the number of guesses, the won/over flags and the
+     * count of stored guesses (bytes), then an int packed guess and int pattern
+     * for each guess. Other modes start with the word length and guess limit
+     * (bytes) and store the target and guesses as longs.
+     */
+    public synchronized void appendSnapshot(long gameId, GameSnapshot snap) throws IOException {
+        int count = snap.getGuessCount();
+        GameMode mode = snap.getMode();
+        boolean classic = mode.equals(GameMode.CLASSIC);
+        ByteBuffer b;
+        if (classic) {
+            b = beginRecord(SNAPSHOT, gameId, 4 + 3 + count * 8);
+            b.putInt((int) snap.getPackedTarget());
+        } else {
+            b = beginRecord(MODE_SNAPSHOT, gameId, 2 + 8 + 3 + count * 12);
+            b.put((byte) mode.getWordLength()).put((byte) mode.getMaxGuesses());
+            b.putLong(snap.getPackedTarget());
+        }
+        b.put((byte) snap.getNumGuesses());
+        b.put((byte) ((snap.getWonGame() ? 1 : 0) | (snap.getGameOver() ? 2 : 0)));
+        b.put((byte) count);
+        for (int i = 0; i < count; i++) {
+            if (classic) {
+                b.putInt((int) snap.getPackedGuess(i));
+            } else {
+                b.putLong(snap.getPackedGuess(i));
+            }
+            b.putInt(snap.getPattern(i));
+        }
+        endRecord(gameId);
+    }
+
+    // reads snapshot data (after the body prefix) of a SNAPSHOT or MODE_SNAPSHOT record
+    static GameSnapshot readSnapshot(byte type, ByteBuffer b) {
+        boolean classic = type == SNAPSHOT;
+        GameMode mode = classic ? GameMode.CLASSIC : GameMode.of(b.get(), b.get());
+        long target = classic ? b.getInt() : b.getLong();
+        int numGuesses = b.get();
+        int flags = b.get();
+        long[] guesses = new long[b.get()];
+        int[] patterns = new int[guesses.length];
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = classic ? b.getInt() : b.getLong();
+            patterns[i] = b.getInt();
+        }
+        return new GameSnapshot(
+                mode, target, numGuesses, (flags & 1) != 0, (flags & 2) != 0, guesses, patterns
+        );
+    }
+
+    /**
+     * Reads the latest snapshot of a game, following the game's records back
+     * from the newest one only until a snapshot is found.
+     *
+     * @return the snapshot, or null if the game has none
+     */
+    public GameSnapshot readSnapshot(long gameId) throws IOException {
+        synchronized (this) {
+            flushBuffer();
+            long pos = index.get(gameId);
+            while (pos >= 0) {
+                int length = readAt(pos, 4).getInt();
+                ByteBuffer body = readAt(pos + 4, length);
+                byte type = body.get(0);
+                if (type == SNAPSHOT || type == MODE_SNAPSHOT) {
+                    return readSnapshot(type, body.position(BODY_PREFIX));
+                }
+                pos = body.getLong(1 + 8);
+            }
+        }
+        return null;
+    }
+
+    // length of the record being written, and where its body starts in the buffer
+    private int recordLength;
+    private int recordStart;
+
+    private ByteBuffer beginRecord(byte type, long gameId, int dataLength) throws IOException {
+        recordLength = BODY_PREFIX + dataLength;
+        if (buffer.remaining() < recordLength + 8) {
+            flushBuffer();
+        }
+        buffer.putInt(recordLength);
+        recordStart = buffer.position();
+        buffer.put(type).putLong(gameId).putLong(index.get(gameId));
+        return buffer;
+    }
+
+    private void endRecord(long gameId) {
+        crc.reset();
+        ByteBuffer body = buffer.duplicate();
+        body.position(recordStart).limit(recordStart + recordLength);
+        crc.update(body);
+        lastCrc = (int) crc.getValue();
+        buffer.putInt(lastCrc);
+        index.put(gameId, writePosition);
+        writePosition += 8 + recordLength;
+    }
+
+    // writes the buffered records to the file (without forcing them to disk)
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer, writePosition - buffer.remaining());
+        buffer.clear();
+    }
+
+    /**
+     * Makes everything appended so far durable. If another thread's commit
+     * already covered this thread's records, returns without touching the disk.
+     */
+    public void commit() throws IOException {
+        long target;
+        synchronized (this) {
+            target = writePosition;
+        }
+        if (durablePosition >= target) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durablePosition >= target) {
+                return; // a commit that finished while we waited included our records
+            }
+            long end;
+            ByteBuffer checkpoint = null;
+            synchronized (this) {
+                flushBuffer();
+                end = writePosition;
+                if (end - checkpointPosition >= CHECKPOINT_BYTES) {
+                    checkpoint = encodeCheckpoint();
+                }
+            }
+            channel.force(false);
+            durablePosition = end;
+            if (checkpoint != null) {
+                // only once the records it covers are on disk
+                writeCheckpoint(checkpoint, end);
+            }
+        }
+    }
+
+    /**
+     * Reads one game by following its chain of records.
+     *
+     * @return the game, or null if the journal has no game with this id
+     */
+    public JournaledGame read(long gameId) throws IOException {
+        Deque<ByteBuffer> records = new ArrayDeque<>();
+        synchronized (this) {
+            flushBuffer(); // the chain may point into the buffer
+            long pos = index.get(gameId);
+            while (pos >= 0) {
+                int length = readAt(pos, 4).getInt();
+                ByteBuffer body = readAt(pos + 4, length);
+                records.push(body); // newest record is found first
+                pos = body.getLong(1 + 8);
+            }
+        }
+        JournaledGame game = null;
+        for (ByteBuffer body : records) {
+            byte type = body.get();
+            body.position(BODY_PREFIX);
+            if (type == NEW_GAME) {
+                String target = readWord(body);
+                int maxGuesses = body.hasRemaining() ? body.get() : Wordle1.MAX_GUESSES;
+                game = new JournaledGame(gameId, target, maxGuesses);
+            } else if (game != null && type == GUESS) {
+                String guess = readWord(body);
+                game.addGuess(guess, body.getInt());
+            } else if (game != null && type == RESULT) {
+                game.setResult(body.get() == 1);
+            } else if (game != null && (type == SNAPSHOT || type == MODE_SNAPSHOT)) {
+                game.setSnapshot(readSnapshot(type, body));
+            }
+        }
+        return game;
+    }
+
+    private static String readWord(ByteBuffer b) {
+        byte[] word = new byte[b.get() & 0xFF];
+        b.get(word);
+        return new String(word, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the id of the most recently started game, or -1 if the journal is empty.
+     */
+    public synchronized long getLastGameId() {
+        return lastGameId;
+    }
+
+    public synchronized int getGameCount() {
+        return index.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            commit();
+            synchronized (syncLock) {
+                ByteBuffer checkpoint = null;
+                long end;
+                synchronized (this) {
+                    end = writePosition;
+                    // unless another thread appended after the commit
+                    if (end == durablePosition && end != checkpointPosition) {
+                        checkpoint = encodeCheckpoint();
+                    }
+                }
+                if (checkpoint != null) {
+                    writeCheckpoint(checkpoint, end);
+                }
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private ByteBuffer readAt(long pos, int length) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(length);
+        while (b.hasRemaining()) {
+            if (channel.read(b, pos + b.position()) < 0) {
+                return null;
+            }
+        }
+        return b.flip();
+    }
+
+    private void writeFully(ByteBuffer b, long pos) throws IOException {
+        while (b.hasRemaining()) {
+            pos += channel.write(b, pos);
+        }
+    }
+
+    /**
+     * Open-addressing hash map from game id to the offset of the game's latest
+     * record, stored in two long arrays.
+     */
+    static final class OffsetIndex {
+        private long[] keys = new long[64];
+        private long[] values = new long[64];
+        private boolean[] used = new boolean[64];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        // every key in the index, in no particular order
+        long[] keys() {
+            long[] all = new long[size];
+            int n = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (used[i]) {
+                    all[n++] = keys[i];
+                }
+            }
+            return all;
+        }
+
+        // every offset in the index, in no particular order
+        long[] values() {
+            long[] all = new long[size];
+            int n = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (used[i]) {
+                    all[n++] = values[i];
+                }
+            }
+            return all;
+        }
+
+        // returns -1 if there is no entry for key
+        long get(long key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); used[i]; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, long value) {
+            if (size * 2 >= keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (used[i] && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (!used[i]) {
+                used[i] = true;
+                keys[i] = key;
+                size++;
+            }
+            values[i] = value;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            values = new long[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
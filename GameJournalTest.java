@@ -0,0 +1,182 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class GameJournalTest {
+    @Test
+    public void testInterleavedGamesReadBack(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("games.journal");
+        long first;
+        long second;
+        try (GameJournal j = GameJournal.open(file)) {
+            first = j.newGame("SPENT");
+            second = j.newGame("CRANE");
+            j.appendGuess(first, "ARISE", FeedbackScorer.score("ARISE", "SPENT"));
+            j.appendGuess(second, "CRANE", FeedbackScorer.ALL_GREEN);
+            j.appendResult(second, true, 1);
+            j.appendGuess(first, "COUNT", FeedbackScorer.score("COUNT", "SPENT"));
+            j.commit();
+        }
+
+        try (GameJournal j = GameJournal.open(file)) {
+            Assertions.assertEquals(2, j.getGameCount());
+            Assertions.assertEquals(second, j.getLastGameId());
+
+            JournaledGame g1 = j.read(first);
+            Assertions.assertEquals("SPENT", g1.getTarget());
+            Assertions.assertEquals(List.of("ARISE", "COUNT"), g1.getGuesses());
+            Assertions.assertEquals(FeedbackScorer.score("COUNT", "SPENT"), g1.getPattern(1));
+            Assertions.assertFalse(g1.isFinished());
+
+            JournaledGame g2 = j.read(second);
+            Assertions.assertEquals(List.of("CRANE"), g2.getGuesses());
+            Assertions.assertTrue(g2.isFinished());
+            Assertions.assertTrue(g2.getWonGame());
+
+            Assertions.assertNull(j.read(42));
+            // new games get new ids after reopening
+            Assertions.assertEquals(second + 1, j.newGame("ABOUT"));
+        }
+    }
+
+    @Test
+    public void testTornRecordIsDropped(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("games.journal");
+        long id;
+        try (GameJournal j = GameJournal.open(file)) {
+            id = j.newGame("SPENT");
+            j.appendGuess(id, "ARISE", 0);
+        }
+        long goodSize = Files.size(file);
+        // half of a record, as if the game crashed while writing it
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            ch.write(ByteBuffer.wrap(new byte[] { 0, 0, 0, 40, 2, 0, 0 }));
+        }
+
+        try (GameJournal j = GameJournal.open(file)) {
+            Assertions.assertEquals(goodSize, Files.size(file));
+            Assertions.assertEquals(List.of("ARISE"), j.read(id).getGuesses());
+        }
+    }
+
+    @Test
+    public void testConcurrentCommits(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("games.journal");
+        try (GameJournal j = GameJournal.open(file)) {
+            Thread[] threads = new Thread[8];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 50; i++) {
+                            long id = j.newGame("SPENT");
+                            j.appendGuess(id, "SPENT", FeedbackScorer.ALL_GREEN);
+                            j.commit();
+                        }
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread t : threads) {
+                t.join();
+            }
+        }
+        try (GameJournal j = GameJournal.open(file)) {
+            Assertions.assertEquals(400, j.getGameCount());
+            Assertions.assertEquals(List.of("SPENT"), j.read(123).getGuesses());
+        }
+    }
+
+    @Test
+    public void testSnapshotRestore(@TempDir Path dir) throws Exception {
+        Wordle1 w = new Wordle1();
+        w.setWordleWord("SPENT");
+        w.playTurn("ARISE");
+        w.playTurn("SPENT");
+        GameSnapshot snap = GameSnapshot.of(w, List.of("ARISE", "SPENT"));
+
+        Path file = dir.resolve("games.journal");
+        long id;
+        try (GameJournal j = GameJournal.open(file)) {
+            id = j.newGame("SPENT");
+            j.appendGuess(id, "ARISE", snap.getPattern(0));
+            j.appendSnapshot(id, snap);
+            j.appendGuess(j.newGame("CRANE"), "ABOUT", 0); // another game after it
+        }
+        try (GameJournal j = GameJournal.open(file)) {
+            GameSnapshot read = j.readSnapshot(id);
+            Assertions.assertEquals(snap, read);
+            Assertions.assertEquals(snap, read.replay()); // consistent with its guesses
+            Assertions.assertNull(j.readSnapshot(id + 1));
+
+            Wordle1 restored = new Wordle1();
+            read.restore(restored);
+            Assertions.assertEquals("SPENT", restored.getWordleWord());
+            Assertions.assertEquals(2, restored.getNumGuesses());
+            Assertions.assertTrue(restored.getWonGame());
+            Assertions.assertTrue(restored.getGameOver());
+            Assertions.assertEquals("ARISE", read.getGuess(0));
+        }
+    }
+
+    @Test
+    public void testReplayDetectsBadSnapshot() {
+        // claims the game was won on the first guess, which the guess doesn't support
+        GameSnapshot bad = new GameSnapshot(
+                FeedbackScorer.pack("SPENT"), 1, true, true,
+                new int[] { FeedbackScorer.pack("ARISE") }, new int[] { FeedbackScorer.ALL_GREEN }
+        );
+        GameSnapshot replayed = bad.replay();
+        Assertions.assertNotEquals(bad, replayed);
+        Assertions.assertFalse(replayed.getWonGame());
+        Assertions.assertEquals(FeedbackScorer.score("ARISE", "SPENT"), replayed.getPattern(0));
+    }
+
+    @Test
+    public void testIndexCheckpoint(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("games.journal");
+        Path indexFile = dir.resolve("games.journal" + GameJournal.INDEX_SUFFIX);
+        long first;
+        try (GameJournal j = GameJournal.open(file)) {
+            first = j.newGame("SPENT");
+            j.appendGuess(first, "ARISE", FeedbackScorer.score("ARISE", "SPENT"));
+        }
+        Assertions.assertTrue(Files.exists(indexFile));
+
+        // records after the checkpoint (as if the game was killed) are scanned
+        GameJournal open = GameJournal.open(file);
+        long second = open.newGame("CRANE");
+        open.appendGuess(first, "COUNT", FeedbackScorer.score("COUNT", "SPENT"));
+        open.commit();
+        try (GameJournal j = GameJournal.open(file)) {
+            Assertions.assertEquals(2, j.getGameCount());
+            Assertions.assertEquals(second, j.getLastGameId());
+            Assertions.assertEquals(List.of("ARISE", "COUNT"), j.read(first).getGuesses());
+            Assertions.assertEquals(second + 1, j.newGame("ABOUT"));
+        }
+        open.close();
+
+        // a damaged checkpoint, or one for another journal, means a full scan
+        byte[] index = Files.readAllBytes(indexFile);
+        index[index.length / 2] ^= 1;
+        Files.write(indexFile, index);
+        try (GameJournal j = GameJournal.open(file)) {
+            Assertions.assertEquals(3, j.getGameCount());
+        }
+        Files.delete(file);
+        try (GameJournal j = GameJournal.open(file)) {
+            Assertions.assertEquals(0, j.getGameCount());
+            Assertions.assertEquals(0, j.newGame("SPENT"));
+        }
+    }
+}
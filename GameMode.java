@@ -0,0 +1,104 @@
+package org.gameProject.wordle1;
+
+/**
+ * A GameMode is the shape of a game: how many letters the words have (4 to 11)
+ * and how many guesses the player gets. CLASSIC is the usual 5 letters and 6
+ * guesses.
+ *
+ * Words of each length come from their own word bank (see
+ * WordDictionary.forLength) and are scored by a WordScorer made for that length.
+ */
+public final class GameMode {
+    public static final int MIN_WORD_LENGTH = 4;
+    public static final int MAX_WORD_LENGTH = 11;
+    public static final int MAX_GUESSES = 20;
+
+    public static final GameMode CLASSIC = new GameMode(
+            FeedbackScorer.WORD_LENGTH, Wordle1.MAX_GUESSES
+    );
+
+    private final int wordLength;
+    private final int maxGuesses;
+    private final WordScorer scorer;
+
+    private GameMode(int wordLength, int maxGuesses) {
+        this.wordLength = wordLength;
+        this.maxGuesses = maxGuesses;
+        this.scorer = WordScorer.forLength(wordLength);
+    }
+
+    /**
+     * Returns the mode with the given word length and number of guesses.
+     *
+     * @throws IllegalArgumentException if either is out of range
+     */
+    public static GameMode of(int wordLength, int maxGuesses) {
+        if (wordLength < MIN_WORD_LENGTH || wordLength > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Words must have " + MIN_WORD_LENGTH + " to " + MAX_WORD_LENGTH + " letters"
+            );
+        }
+        if (maxGuesses < 1 || maxGuesses > MAX_GUESSES) {
+            throw new IllegalArgumentException("A game must have 1 to " + MAX_GUESSES + " guesses");
+        }
+        if (wordLength == CLASSIC.wordLength && maxGuesses == CLASSIC.maxGuesses) {
+            return CLASSIC;
+        }
+        return new GameMode(wordLength, maxGuesses);
+    }
+
+    /**
+     * Parses a mode written as letters x guesses (e.g. "6x7"), or just the number
+     * of letters (with 6 guesses).
+     */
+    public static GameMode parse(String s) {
+        String[] parts = s.trim().toLowerCase().split("x");
+        try {
+            int letters = Integer.parseInt(parts[0].trim());
+            int guesses = parts.length > 1
+                    ? Integer.parseInt(parts[1].trim()) : Wordle1.MAX_GUESSES;
+            if (parts.length > 2) {
+                throw new IllegalArgumentException("Invalid game mode: " + s);
+            }
+            return of(letters, guesses);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid game mode: " + s);
+        }
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public int getMaxGuesses() {
+        return maxGuesses;
+    }
+
+    public WordScorer getScorer() {
+        return scorer;
+    }
+
+    // the word bank for this mode's word length
+    public WordDictionary getDictionary() {
+        return WordDictionary.forLength(wordLength);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof GameMode)) {
+            return false;
+        }
+        GameMode m = (GameMode) o;
+        return wordLength == m.wordLength && maxGuesses == m.maxGuesses;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * wordLength + maxGuesses;
+    }
+
+    @Override
+    public String toString() {
+        return wordLength + "x" + maxGuesses;
+    }
+}
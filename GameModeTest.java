@@ -0,0 +1,122 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+public class GameModeTest {
+    // scores the obvious way, one letter at a time
+    private static int slowScore(String guess, String target) {
+        int n = guess.length();
+        boolean[] green = new boolean[n];
+        int[] unmatched = new int[26];
+        for (int i = 0; i < n; i++) {
+            green[i] = guess.charAt(i) == target.charAt(i);
+            if (!green[i]) {
+                unmatched[target.charAt(i) - 'A']++;
+            }
+        }
+        int pattern = 0;
+        int pow = 1;
+        for (int i = 0; i < n; i++) {
+            if (green[i]) {
+                pattern += 2 * pow;
+            } else if (unmatched[guess.charAt(i) - 'A'] > 0) {
+                unmatched[guess.charAt(i) - 'A']--;
+                pattern += pow;
+            }
+            pow *= 3;
+        }
+        return pattern;
+    }
+
+    @Test
+    public void testScorerMatchesSlowScoring() {
+        Random r = new Random(7);
+        for (int n = GameMode.MIN_WORD_LENGTH; n <= GameMode.MAX_WORD_LENGTH; n++) {
+            WordScorer scorer = WordScorer.forLength(n);
+            for (int k = 0; k < 2000; k++) {
+                char[] g = new char[n];
+                char[] t = new char[n];
+                for (int i = 0; i < n; i++) {
+                    // only a few letters, so there are lots of duplicates
+                    g[i] = (char) ('A' + r.nextInt(4));
+                    t[i] = (char) ('A' + r.nextInt(4));
+                }
+                String guess = new String(g);
+                String target = new String(t);
+                Assertions.assertEquals(
+                        slowScore(guess, target), scorer.score(guess, target), guess + " " + target
+                );
+                if (n == FeedbackScorer.WORD_LENGTH) {
+                    Assertions.assertEquals(
+                            FeedbackScorer.score(guess, target), scorer.score(guess, target)
+                    );
+                }
+            }
+            Assertions.assertEquals(
+                    scorer.getAllGreen(), scorer.score("Z".repeat(n), "z".repeat(n))
+            );
+        }
+    }
+
+    @Test
+    public void testParseModes() {
+        Assertions.assertSame(GameMode.CLASSIC, GameMode.parse("5x6"));
+        Assertions.assertSame(GameMode.CLASSIC, GameMode.parse(" 5 "));
+        Assertions.assertEquals(GameMode.of(8, 9), GameMode.parse("8X9"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GameMode.parse("3x6"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GameMode.parse("12"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GameMode.parse("six"));
+    }
+
+    @Test
+    public void testSixLetterGameWithThreeGuesses() {
+        GameMode mode = GameMode.of(6, 3);
+        WordDictionary d = WordDictionary.of(List.of("planet", "banana", "rabbit", "crane"), 6);
+        Assertions.assertEquals(3, d.size());
+        Assertions.assertEquals(1, d.getSkippedLines());
+
+        Wordle1 w = new Wordle1(mode, d);
+        w.setWordleWord("RABBIT");
+        Assertions.assertFalse(w.isValidInput("crane"));
+        Assertions.assertEquals(List.of(0, 1, -1, -1, -1, -1), w.getColors("banana", "RABBIT"));
+        Assertions.assertTrue(w.playTurn("banana"));
+        Assertions.assertTrue(w.playTurn("planet"));
+        Assertions.assertFalse(w.getGameOver());
+        Assertions.assertTrue(w.playTurn("planet"));
+        Assertions.assertTrue(w.getGameOver());
+        Assertions.assertFalse(w.getWonGame());
+
+        WordDictionary classic = WordDictionary.getInstance();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Wordle1(mode, classic));
+    }
+
+    @Test
+    public void testLongWordSnapshotInJournal(@TempDir Path dir) throws Exception {
+        GameMode mode = GameMode.of(9, 4);
+        WordDictionary d = WordDictionary.of(List.of("wonderful", "abstracts", "butterfly"), 9);
+        Wordle1 w = new Wordle1(mode, d);
+        w.setWordleWord("BUTTERFLY");
+        w.playTurn("abstracts");
+        GameSnapshot snap = GameSnapshot.of(w, List.of("ABSTRACTS"));
+        Assertions.assertEquals("ABSTRACTS", snap.getGuess(0));
+
+        Path file = dir.resolve("games.journal");
+        try (GameJournal j = GameJournal.open(file)) {
+            long id = j.newGame("BUTTERFLY", mode.getMaxGuesses());
+            j.appendGuess(id, "ABSTRACTS", snap.getPattern(0));
+            j.appendSnapshot(id, snap);
+            j.commit();
+        }
+        try (GameJournal j = GameJournal.open(file)) {
+            long id = j.getLastGameId();
+            Assertions.assertEquals(snap, j.readSnapshot(id));
+            Assertions.assertEquals(mode, j.read(id).getMode());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package org.gameProject.wordle1;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameServer hosts many independent games of Wordle over HTTP. Each game is a
+ * GameSession stored in a concurrent map by id, and every session uses the same
+ * shared word bank. Sessions that haven't been used for a while are evicted.
+ *
+ * Requests (responses are JSON):
+ * POST /games creates a game and returns its id (POST /games?targets=daily
+ * gives the daily word, see TargetSelector.parse for the other choices),
+ * POST /games/{id}/guess plays the guess in the request body,
+ * GET /games/{id} returns the state of a game, and
+ * DELETE /games/{id} ends a game.
+ * GET /metrics returns the Metrics dump as plain text.
+ *
+ * Each request runs on its own virtual thread when the JVM supports them (Java 21
+ * and later), otherwise on a cached thread pool.
+ */
+public class GameServer {
+    public static final int DEFAULT_PORT = 8080;
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final TargetSelector DAILY = TargetSelector.daily();
+
+    private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final long idleTimeoutNanos;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final ScheduledExecutorService evictor;
+
+    /**
+     * Creates a server on the given port (0 for any free port) that ends games
+     * left idle for idleTimeout. For low latency, call useNoDelay() (or set
+     * -Dsun.net.httpserver.nodelay=true) before the first server is created.
+     */
+    public GameServer(int port, Duration idleTimeout) throws IOException {
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        WordDictionary.getInstance(); // load the word bank before the first request
+
+        server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/games", this::handle);
+        server.createContext("/metrics", GameServer::handleMetrics);
+        requestExecutor = newRequestExecutor();
+        server.setExecutor(requestExecutor);
+
+        evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "session-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1, idleTimeout.toMillis() / 2);
+        evictor.scheduleAtFixedRate(this::evictIdleSessions, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    // a virtual thread per request if this JVM has them, otherwise a thread pool
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        evictor.shutdownNow();
+        requestExecutor.shutdownNow();
+    }
+
+    // the port the server is listening on (useful when it was started on port 0)
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Creates a new game and returns its session.
+     */
+    public GameSession newSession() {
+        return newSession(TargetSelector.RANDOM);
+    }
+
+    /**
+     * Creates a new game whose target is picked by the given selector.
+     */
+    public GameSession newSession(TargetSelector selector) {
+        while (true) {
+            String id = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            GameSession s = new GameSession(id, selector);
+            if (sessions.putIfAbsent(id, s) == null) {
+                return s;
+            }
+        }
+    }
+
+    // removes the sessions that have been idle for longer than the timeout
+    void evictIdleSessions() {
+        long now = System.nanoTime();
+        sessions.values().removeIf(s -> now - s.getLastAccess() > idleTimeoutNanos);
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try (ex) {
+            String method = ex.getRequestMethod();
+            // path is /games, /games/{id} or /games/{id}/guess
+            String[] parts = ex.getRequestURI().getPath().split("/");
+            if (parts.length == 2 && method.equals("POST")) {
+                String query = ex.getRequestURI().getQuery();
+                TargetSelector selector = TargetSelector.RANDOM;
+                if (query != null && query.startsWith("targets=")) {
+                    try {
+                        selector = selectorFor(query.substring(8));
+                    } catch (IllegalArgumentException e) {
+                        send(ex, 400, "{\"error\":\"Invalid targets\"}");
+                        return;
+                    }
+                }
+                send(ex, 201, newSession(selector).state());
+                return;
+            }
+            GameSession s = parts.length >= 3 ? sessions.get(parts[2]) : null;
+            if (s == null) {
+                send(ex, 404, "{\"error\":\"No such game\"}");
+            } else if (parts.length == 4 && parts[3].equals("guess") && method.equals("POST")) {
+                send(ex, 200, s.guess(readBody(ex)));
+            } else if (parts.length == 3 && method.equals("GET")) {
+                send(ex, 200, s.state());
+            } else if (parts.length == 3 && method.equals("DELETE")) {
+                sessions.remove(s.getId());
+                send(ex, 200, s.state());
+            } else {
+                send(ex, 400, "{\"error\":\"Invalid request\"}");
+            }
+        }
+    }
+
+    // GET /metrics: the text dump of Metrics
+    private static void handleMetrics(HttpExchange ex) throws IOException {
+        try (ex) {
+            byte[] body = Metrics.dump().getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().set("Content-Type", "text/plain");
+            ex.sendResponseHeaders(200, body.length);
+            try (OutputStream out = ex.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    // the daily selector is shared by every session, the others are per session
+    private static TargetSelector selectorFor(String name) {
+        return name.equals("daily") ? DAILY : TargetSelector.parse(name);
+    }
+
+    private static String readBody(HttpExchange ex) throws IOException {
+        try (InputStream in = ex.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private static void send(HttpExchange ex, int code, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json");
+        ex.sendResponseHeaders(code, body.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Turns on TCP_NODELAY for every JDK HTTP server in this JVM, unless
+     * sun.net.httpserver.nodelay is already set. The JDK server writes headers
+     * and body separately, so without it every response can wait for a delayed
+     * ACK. It is read once, so it has to be set before the first server starts.
+     */
+    public static void useNoDelay() {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /**
+     * Starts a server. Usage: GameServer [port] [idle timeout in seconds]
+     */
+    public static void main(String[] args) throws IOException {
+        useNoDelay();
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Duration timeout = args.length > 1 ? Duration.ofSeconds(Long.parseLong(args[1]))
+                : DEFAULT_IDLE_TIMEOUT;
+        GameServer server = new GameServer(port, timeout);
+        server.start();
+        System.out.println("Wordle server listening on port " + server.getPort());
+    }
+}
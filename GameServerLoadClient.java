@@ -0,0 +1,220 @@
+package org.gameProject.wordle1;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load-test client for GameServer. Many workers each create a game, guess random
+ * words from the word bank until the game is over, and start another game, for a
+ * fixed amount of time. Prints the number of guesses per second and the average
+ * and worst latency of a guess.
+ *
+ * Each worker keeps one HTTP/1.1 keep-alive connection and writes its requests
+ * by hand, so the client spends as little CPU as possible and the numbers are
+ * mostly the server's.
+ *
+ * Usage: GameServerLoadClient [host:port] [workers] [seconds]
+ * If no server is given, one is started in this JVM.
+ */
+public class GameServerLoadClient {
+    private final String host;
+    private final int port;
+    private final WordDictionary dictionary = WordDictionary.getInstance();
+
+    public GameServerLoadClient(String hostAndPort) {
+        int colon = hostAndPort.lastIndexOf(':');
+        this.host = hostAndPort.substring(0, colon);
+        this.port = Integer.parseInt(hostAndPort.substring(colon + 1));
+    }
+
+    // results of one worker
+    private static final class Result {
+        long guesses;
+        long games;
+        long errors;
+        long totalNanos;
+        long maxNanos;
+    }
+
+    private Result work(long deadline) {
+        Result r = new Result();
+        Connection c = null;
+        while (System.nanoTime() < deadline) {
+            try {
+                if (c == null) {
+                    c = new Connection(host, port);
+                }
+                String id = field(c.post("/games", ""), "id");
+                r.games++;
+                boolean over = false;
+                while (!over && System.nanoTime() < deadline) {
+                    String word = dictionary.randomWord(ThreadLocalRandom.current());
+                    long start = System.nanoTime();
+                    String state = c.post("/games/" + id + "/guess", word);
+                    long elapsed = System.nanoTime() - start;
+                    r.guesses++;
+                    r.totalNanos += elapsed;
+                    r.maxNanos = Math.max(r.maxNanos, elapsed);
+                    over = state.contains("\"gameOver\":true");
+                }
+                if (over) {
+                    // free the session rather than leave it for the idle timeout
+                    c.delete("/games/" + id);
+                }
+            } catch (IOException | RuntimeException e) {
+                r.errors++;
+                if (c != null) {
+                    c.close();
+                    c = null;
+                }
+            }
+        }
+        if (c != null) {
+            c.close();
+        }
+        return r;
+    }
+
+    // one keep-alive connection to the server
+    private static final class Connection {
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private final String host;
+
+        Connection(String host, int port) throws IOException {
+            this.host = host;
+            socket = new Socket(host, port);
+            socket.setTcpNoDelay(true);
+            in = new BufferedInputStream(socket.getInputStream());
+            out = socket.getOutputStream();
+        }
+
+        String post(String path, String body) throws IOException {
+            return send("POST", path, body);
+        }
+
+        String delete(String path) throws IOException {
+            return send("DELETE", path, "");
+        }
+
+        private String send(String method, String path, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            String head = method + " " + path + " HTTP/1.1\r\nHost: " + host
+                    + "\r\nContent-Length: " + bytes.length + "\r\n\r\n";
+            byte[] headBytes = head.getBytes(StandardCharsets.US_ASCII);
+            byte[] req = new byte[headBytes.length + bytes.length];
+            System.arraycopy(headBytes, 0, req, 0, headBytes.length);
+            System.arraycopy(bytes, 0, req, headBytes.length, bytes.length);
+            out.write(req);
+            out.flush();
+
+            String status = readLine();
+            int length = 0;
+            String line;
+            while (!(line = readLine()).isEmpty()) {
+                if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                    length = Integer.parseInt(line.substring(15).trim());
+                }
+            }
+            String res = new String(in.readNBytes(length), StandardCharsets.UTF_8);
+            if (!status.contains(" 2")) {
+                throw new IllegalStateException(status + ": " + res);
+            }
+            return res;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b < 0) {
+                    throw new IOException("Connection closed");
+                }
+                if (b != '\r') {
+                    sb.append((char) b);
+                }
+            }
+            return sb.toString();
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // nothing left to clean up
+            }
+        }
+    }
+
+    // reads a string field out of the server's JSON response
+    private static String field(String json, String name) {
+        String key = "\"" + name + "\":\"";
+        int start = json.indexOf(key) + key.length();
+        return json.substring(start, json.indexOf('"', start));
+    }
+
+    /**
+     * Runs the load test and returns a report of the results.
+     */
+    public String run(int workers, int seconds) throws InterruptedException, ExecutionException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = GameServer.newRequestExecutor();
+        List<Future<Result>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < workers; i++) {
+            futures.add(pool.submit(() -> work(deadline)));
+        }
+        Result total = new Result();
+        for (Future<Result> f : futures) {
+            Result r = f.get();
+            total.guesses += r.guesses;
+            total.games += r.games;
+            total.errors += r.errors;
+            total.totalNanos += r.totalNanos;
+            total.maxNanos = Math.max(total.maxNanos, r.maxNanos);
+        }
+        double secs = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        return String.format(
+                "Workers: %d, games: %d, guesses: %d, errors: %d%n"
+                        + "Guesses per second: %.0f%n"
+                        + "Guess latency: avg %.3f ms, max %.3f ms%n",
+                workers, total.games, total.guesses, total.errors, total.guesses / secs,
+                total.guesses == 0 ? 0 : total.totalNanos / 1e6 / total.guesses,
+                total.maxNanos / 1e6
+        );
+    }
+
+    public static void main(String[] args) throws Exception {
+        GameServer local = null;
+        String target;
+        if (args.length > 0) {
+            target = args[0];
+        } else {
+            GameServer.useNoDelay();
+            local = new GameServer(0, GameServer.DEFAULT_IDLE_TIMEOUT);
+            local.start();
+            target = "localhost:" + local.getPort();
+        }
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        System.out.print(new GameServerLoadClient(target).run(workers, seconds));
+        if (local != null) {
+            local.stop();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+public class GameServerTest {
+    private GameServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new GameServer(0, Duration.ofMinutes(1));
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest req = HttpRequest
+                .newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(req, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void testPlayGameOverHttp() throws Exception {
+        HttpResponse<String> created = send("POST", "/games", "");
+        Assertions.assertEquals(201, created.statusCode());
+        String body = created.body();
+        String id = body.substring(body.indexOf("\"id\":\"") + 6, body.indexOf("\",", 7));
+        Assertions.assertEquals(1, server.getSessionCount());
+
+        HttpResponse<String> invalid = send("POST", "/games/" + id + "/guess", "aaaaa");
+        Assertions.assertTrue(invalid.body().contains("\"accepted\":false"));
+
+        HttpResponse<String> valid = send("POST", "/games/" + id + "/guess", "crane");
+        Assertions.assertTrue(valid.body().contains("\"accepted\":true"));
+        Assertions.assertTrue(valid.body().contains("\"numGuesses\":1"));
+
+        Assertions.assertEquals(404, send("GET", "/games/nope", "").statusCode());
+        Assertions.assertEquals(200, send("DELETE", "/games/" + id, "").statusCode());
+        Assertions.assertEquals(0, server.getSessionCount());
+    }
+
+    @Test
+    public void testIdleSessionsAreEvicted() throws Exception {
+        server.stop();
+        server = new GameServer(0, Duration.ofMillis(1));
+        server.newSession();
+        Thread.sleep(5);
+        server.evictIdleSessions();
+        Assertions.assertEquals(0, server.getSessionCount());
+    }
+}
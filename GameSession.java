@@ -0,0 +1,81 @@
+package org.gameProject.wordle1;
+
+/**
+ * One game hosted by the GameServer. The game is an AtomicGame, so requests for
+ * the same session don't need a lock either: a guess installs a new immutable
+ * GameState with compareAndSet, and a status request just reads the current
+ * one. Different sessions never touch each other's state.
+ */
+public class GameSession {
+    private final String id;
+    private final AtomicGame game; // uses the shared word bank
+    private volatile long lastAccess = System.nanoTime();
+
+    public GameSession(String id) {
+        this(id, TargetSelector.RANDOM);
+    }
+
+    /**
+     * Starts a session whose targets are picked by the given selector (e.g. the
+     * daily word).
+     */
+    public GameSession(String id, TargetSelector selector) {
+        this.id = id;
+        this.game = new AtomicGame(GameMode.CLASSIC, WordDictionary.getInstance(), selector,
+                false);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    // System.nanoTime() of the last request for this session
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    /**
+     * Plays a guess and returns the new state of the game as JSON. The pattern
+     * is -1 if the guess wasn't accepted.
+     */
+    public String guess(String word) {
+        lastAccess = System.nanoTime();
+        GameState next = game.playTurn(word);
+        if (next == null) {
+            GameState current = game.getState();
+            EventLog.invalidInput(word, current.getNumGuesses());
+            return toJson(current, false, -1);
+        }
+        EventLog.guess(word, next.getWordleWord(), next.getLastPattern());
+        if (next.getGameOver()) {
+            EventLog.result(next.getWordleWord(), next.getWonGame(), next.getNumGuesses());
+        }
+        return toJson(next, true, next.getLastPattern());
+    }
+
+    /**
+     * Returns the state of the game as JSON.
+     */
+    public String state() {
+        lastAccess = System.nanoTime();
+        return toJson(game.getState(), true, -1);
+    }
+
+    // the answer is only sent once the game is over
+    private String toJson(GameState s, boolean accepted, int pattern) {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("{\"id\":\"").append(id).append('"');
+        sb.append(",\"accepted\":").append(accepted);
+        sb.append(",\"pattern\":").append(pattern);
+        if (pattern >= 0) {
+            sb.append(",\"colors\":").append(FeedbackScorer.toColors(pattern));
+        }
+        sb.append(",\"numGuesses\":").append(s.getNumGuesses());
+        sb.append(",\"wonGame\":").append(s.getWonGame());
+        sb.append(",\"gameOver\":").append(s.getGameOver());
+        if (s.getGameOver()) {
+            sb.append(",\"wordleWord\":\"").append(s.getWordleWord()).append('"');
+        }
+        return sb.append('}').toString();
+    }
+}
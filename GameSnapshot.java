@@ -0,0 +1,188 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GameSnapshot is the complete state of a game at one point: the target, the
+ * model's counters/flags, and every guess with the pattern it got, with words
+ * packed into longs (see WordScorer), and the game mode. Restoring a snapshot
+ * just installs these values; nothing is scored or checked against the word
+ * bank again.
+ *
+ * replay() recomputes a snapshot the slow way (by playing the guesses through a
+ * new Wordle1), to fall back on or to verify a stored snapshot.
+ */
+public final class GameSnapshot {
+    private final GameMode mode;
+    private final long target;
+    private final int numGuesses;
+    private final boolean wonGame;
+    private final boolean gameOver;
+    private final long[] guesses;
+    private final int[] patterns;
+
+    /**
+     * Makes a snapshot of a classic game, with words packed by FeedbackScorer.
+     */
+    public GameSnapshot(
+            int target, int numGuesses, boolean wonGame, boolean gameOver, int[] guesses,
+            int[] patterns
+    ) {
+        this(
+                GameMode.CLASSIC, target, numGuesses, wonGame, gameOver,
+                Arrays.stream(guesses).asLongStream().toArray(), patterns
+        );
+    }
+
+    public GameSnapshot(
+            GameMode mode, long target, int numGuesses, boolean wonGame, boolean gameOver,
+            long[] guesses, int[] patterns
+    ) {
+        if (guesses.length != patterns.length) {
+            throw new IllegalArgumentException("Every guess needs a pattern");
+        }
+        this.mode = mode;
+        this.target = target;
+        this.numGuesses = numGuesses;
+        this.wonGame = wonGame;
+        this.gameOver = gameOver;
+        this.guesses = guesses.clone();
+        this.patterns = patterns.clone();
+    }
+
+    /**
+     * Takes a snapshot of a game given the guesses it accepted so far.
+     */
+    public static GameSnapshot of(Wordle1 w, List<String> acceptedGuesses) {
+        WordScorer scorer = w.getMode().getScorer();
+        long[] guesses = new long[acceptedGuesses.size()];
+        int[] patterns = new int[guesses.length];
+        long target = scorer.pack(w.getWordleWord());
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = scorer.pack(acceptedGuesses.get(i));
+            patterns[i] = scorer.score(guesses[i], target);
+        }
+        return new GameSnapshot(
+                w.getMode(), target, w.getNumGuesses(), w.getWonGame(), w.getGameOver(), guesses,
+                patterns
+        );
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public String getWordleWord() {
+        return mode.getScorer().unpack(target);
+    }
+
+    public int getNumGuesses() {
+        return numGuesses;
+    }
+
+    public boolean getWonGame() {
+        return wonGame;
+    }
+
+    public boolean getGameOver() {
+        return gameOver;
+    }
+
+    // number of guesses stored in the snapshot
+    public int getGuessCount() {
+        return guesses.length;
+    }
+
+    // guess number i, in uppercase
+    public String getGuess(int i) {
+        return mode.getScorer().unpack(guesses[i]);
+    }
+
+    // packed guess number i
+    public long getPackedGuess(int i) {
+        return guesses[i];
+    }
+
+    public long getPackedTarget() {
+        return target;
+    }
+
+    // pattern id (see FeedbackScorer) of guess number i
+    public int getPattern(int i) {
+        return patterns[i];
+    }
+
+    /**
+     * Installs this state into a game of the same mode.
+     */
+    public void restore(Wordle1 w) {
+        if (!w.getMode().equals(mode)) {
+            throw new IllegalArgumentException("The snapshot is of a " + mode + " game");
+        }
+        w.setWordleWord(getWordleWord());
+        w.setNumGuesses(numGuesses);
+        w.setWonGame(wonGame);
+        w.setGameOver(gameOver);
+        // hard mode needs the feedback of the stored guesses
+        ConstraintState c = w.getConstraints();
+        c.clear();
+        for (int i = 0; i < guesses.length; i++) {
+            c.update(guesses[i], patterns[i]);
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot by playing its guesses through a new game. Guesses the
+     * game doesn't accept are left out, so comparing the result with this
+     * snapshot (equals) tells whether the snapshot is consistent.
+     */
+    public GameSnapshot replay() {
+        List<String> words = new ArrayList<>(guesses.length);
+        for (int i = 0; i < guesses.length; i++) {
+            words.add(getGuess(i));
+        }
+        return replay(mode, getWordleWord(), words);
+    }
+
+    /**
+     * Computes a snapshot by playing the guesses through a new classic game with
+     * the given target. Guesses the game doesn't accept are left out.
+     */
+    public static GameSnapshot replay(String target, List<String> guesses) {
+        return replay(GameMode.CLASSIC, target, guesses);
+    }
+
+    /**
+     * Computes a snapshot by playing the guesses through a new game of the given
+     * mode with the given target. Guesses the game doesn't accept are left out.
+     */
+    public static GameSnapshot replay(GameMode mode, String target, List<String> guesses) {
+        Wordle1 w = new Wordle1(mode);
+        w.setWordleWord(target.trim().toUpperCase());
+        List<String> accepted = new ArrayList<>(guesses.size());
+        for (String guess : guesses) {
+            if (w.playTurn(guess)) {
+                accepted.add(guess);
+            }
+        }
+        return of(w, accepted);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof GameSnapshot)) {
+            return false;
+        }
+        GameSnapshot s = (GameSnapshot) o;
+        return mode.equals(s.mode) && target == s.target && numGuesses == s.numGuesses
+                && wonGame == s.wonGame && gameOver == s.gameOver
+                && Arrays.equals(guesses, s.guesses) && Arrays.equals(patterns, s.patterns);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(target) + numGuesses) + Arrays.hashCode(guesses);
+    }
+}
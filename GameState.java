@@ -0,0 +1,170 @@
+package org.gameProject.wordle1;
+
+/**
+ * GameState is one immutable state of a game: the game mode, the target (as its
+ * index in the word bank and packed, see WordScorer), and the guesses so far with
+ * their patterns. Playing a guess doesn't change a state; it returns a new one.
+ *
+ * The new state only stores the guess it adds, its pattern, the status and a
+ * link to the state before it, so a guess costs one small object and no copying,
+ * and every earlier state is still there: undo is previous(), and at(n) goes
+ * back to the state after n guesses. Since nothing in a state ever changes, any
+ * number of threads can read one without locking (see AtomicGame, which
+ * publishes the current state through an AtomicReference).
+ */
+public final class GameState {
+    // status of the game
+    public static final byte PLAYING = 0;
+    public static final byte WON = 1;
+    public static final byte LOST = 2;
+
+    private final GameMode mode;
+    private final int targetIndex;
+    private final long target;
+    private final GameState previous; // the state before the last guess, null at the start
+    private final long guess; // the last guess, packed
+    private final int pattern; // its pattern id
+    private final byte numGuesses;
+    private final byte status;
+
+    private GameState(GameMode mode, int targetIndex, long target, GameState previous,
+            long guess, int pattern, int numGuesses, byte status) {
+        this.mode = mode;
+        this.targetIndex = targetIndex;
+        this.target = target;
+        this.previous = previous;
+        this.guess = guess;
+        this.pattern = pattern;
+        this.numGuesses = (byte) numGuesses;
+        this.status = status;
+    }
+
+    /**
+     * The state at the start of a game whose target is word number targetIndex
+     * of the word bank.
+     */
+    public static GameState start(GameMode mode, WordDictionary d, int targetIndex) {
+        if (d.getWordLength() != mode.getWordLength()) {
+            throw new IllegalArgumentException("The word bank doesn't match the mode " + mode);
+        }
+        return new GameState(mode, targetIndex, d.longCodeAt(targetIndex), null, 0, 0, 0,
+                PLAYING);
+    }
+
+    /**
+     * Returns the state after a (packed) guess. The guess isn't checked against
+     * the word bank; the caller does that. A finished game doesn't change.
+     */
+    public GameState play(long guess) {
+        if (status != PLAYING) {
+            return this;
+        }
+        WordScorer scorer = mode.getScorer();
+        int p = scorer.score(guess, target);
+        int n = numGuesses + 1;
+        byte s = p == scorer.getAllGreen() ? WON : n == mode.getMaxGuesses() ? LOST : PLAYING;
+        return new GameState(mode, targetIndex, target, this, guess, p, n, s);
+    }
+
+    /**
+     * Returns the state before the last guess, or this state if there were no
+     * guesses.
+     */
+    public GameState previous() {
+        return previous == null ? this : previous;
+    }
+
+    /**
+     * Returns the state after the first n guesses of this game (n can't be more
+     * than the number of guesses so far).
+     */
+    public GameState at(int n) {
+        if (n < 0 || n > numGuesses) {
+            throw new IndexOutOfBoundsException("No state after " + n + " guesses");
+        }
+        GameState s = this;
+        while (s.numGuesses > n) {
+            s = s.previous;
+        }
+        return s;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public int getTargetIndex() {
+        return targetIndex;
+    }
+
+    public long getPackedTarget() {
+        return target;
+    }
+
+    // the target in uppercase
+    public String getWordleWord() {
+        return mode.getScorer().unpack(target);
+    }
+
+    public int getNumGuesses() {
+        return numGuesses;
+    }
+
+    public byte getStatus() {
+        return status;
+    }
+
+    public boolean getWonGame() {
+        return status == WON;
+    }
+
+    public boolean getGameOver() {
+        return status != PLAYING;
+    }
+
+    // guess i (0 is the first), packed
+    public long getPackedGuess(int i) {
+        return at(i + 1).guess;
+    }
+
+    // guess i (0 is the first), in uppercase
+    public String getGuess(int i) {
+        return mode.getScorer().unpack(getPackedGuess(i));
+    }
+
+    // the pattern id guess i got
+    public int getPattern(int i) {
+        return at(i + 1).pattern;
+    }
+
+    // the pattern of the last guess, or -1 if there were no guesses
+    public int getLastPattern() {
+        return numGuesses == 0 ? -1 : pattern;
+    }
+
+    /**
+     * Returns what the guesses so far say about the target (for hard mode and
+     * hints).
+     */
+    public ConstraintState getConstraints() {
+        ConstraintState c = new ConstraintState(mode.getWordLength());
+        for (int i = 0; i < numGuesses; i++) {
+            c.update(getPackedGuess(i), getPattern(i));
+        }
+        return c;
+    }
+
+    /**
+     * Returns the state as a GameSnapshot, to save it to the game journal.
+     */
+    public GameSnapshot toSnapshot() {
+        long[] guesses = new long[numGuesses];
+        int[] patterns = new int[numGuesses];
+        for (GameState s = this; s.numGuesses > 0; s = s.previous) {
+            guesses[s.numGuesses - 1] = s.guess;
+            patterns[s.numGuesses - 1] = s.pattern;
+        }
+        return new GameSnapshot(mode, target, numGuesses, getWonGame(), getGameOver(), guesses,
+                patterns);
+    }
+}
@@ -0,0 +1,76 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GameStateTest {
+    // a game of the shared word bank whose target is the given word
+    private static AtomicGame gameFor(String target, boolean hardMode) {
+        WordDictionary d = WordDictionary.getInstance();
+        int index = d.indexOf(target);
+        return new AtomicGame(GameMode.CLASSIC, d, dict -> index, hardMode);
+    }
+
+    @Test
+    public void testGuessUndoAndTimeTravel() {
+        AtomicGame game = gameFor("spent", false);
+        GameState start = game.getState();
+        Assertions.assertNull(game.playTurn("qqqqq"));
+        GameState one = game.playTurn(" crane ");
+        GameState two = game.playTurn("split");
+        Assertions.assertEquals(0, start.getNumGuesses()); // states never change
+        Assertions.assertEquals(1, one.getNumGuesses());
+        Assertions.assertEquals(FeedbackScorer.score("split", "spent"), two.getLastPattern());
+        Assertions.assertEquals("CRANE", two.getGuess(0));
+
+        Assertions.assertSame(one, game.undo());
+        Assertions.assertSame(start, game.rewind(0));
+        Assertions.assertTrue(game.restore(two)); // and forward again
+        GameState won = game.playTurn("SPENT");
+        Assertions.assertTrue(won.getWonGame());
+        Assertions.assertNull(game.playTurn("crane"));
+        Assertions.assertFalse(game.restore(gameFor("spent", false).getState()));
+
+        // the save path: the same snapshot as replaying the guesses through Wordle1
+        Assertions.assertEquals(GameSnapshot.replay("SPENT", List.of("CRANE", "SPLIT", "SPENT")),
+                won.toSnapshot());
+    }
+
+    @Test
+    public void testHardModeUsesTheStateConstraints() {
+        AtomicGame game = gameFor("spent", true);
+        game.playTurn("crane");
+        Assertions.assertNull(game.playTurn("split")); // no N
+        Assertions.assertNotNull(game.playTurn("spent"));
+    }
+
+    @Test
+    public void testConcurrentGuessesAreNeverLost() throws Exception {
+        AtomicGame game = gameFor("spent", false);
+        List<String> words = List.of("crane", "split", "count", "arise", "mount", "spelt");
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (String w : words) {
+                    if (game.playTurn(w) != null) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        Assertions.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        GameState end = game.getState();
+        Assertions.assertTrue(end.getGameOver());
+        Assertions.assertEquals(6, accepted.get());
+        Assertions.assertEquals(6, end.getNumGuesses());
+        Assertions.assertEquals(0, end.at(0).getNumGuesses());
+    }
+}
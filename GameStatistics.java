@@ -0,0 +1,370 @@
+package org.gameProject.wordle1;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GameStatistics keeps a player's history: every finished game is recorded
+ * (win or loss, number of guesses, the target and the guesses) and folded into
+ * running totals, and the games themselves are not kept. Everything is held in
+ * fixed-size primitive arrays: the guess histogram, the streaks, per-letter
+ * counts, sketches of how often each word was played, missed or opened with
+ * (see FrequencySketch) and histograms of how long games and guesses took (see
+ * LatencyHistogram). So the memory used, and the size of a saved snapshot, is
+ * the same after ten games or ten million.
+ *
+ * The statistics can be saved to a (gzipped) binary file and loaded again;
+ * startAutoSave saves them periodically while games are being played.
+ *
+ * All methods are synchronized, so games can be recorded on one thread while
+ * the statistics are shown on another.
+ */
+public final class GameStatistics {
+    private static final int MAGIC = 0x57535441; // "WSTA"
+    private static final int VERSION = 1;
+
+    // guess counts above this share the last bucket of the histogram
+    public static final int MAX_TRACKED_GUESSES = GameMode.MAX_GUESSES;
+    private static final int LETTERS = 27; // letter codes 1 to 26, 0 unused
+
+    private long games;
+    private long wins;
+    private int currentStreak;
+    private int maxStreak;
+    private final long[] histogram = new long[MAX_TRACKED_GUESSES + 1]; // wins by guesses
+
+    // for each letter, the games whose target had it and how many of them were lost
+    private final long[] letterGames = new long[LETTERS];
+    private final long[] letterLosses = new long[LETTERS];
+
+    private final FrequencySketch wordPlays = new FrequencySketch(); // targets
+    private final FrequencySketch wordLosses = new FrequencySketch(); // targets that were missed
+    private final FrequencySketch openers = new FrequencySketch(); // first guesses
+
+    private final LatencyHistogram gameNanos = new LatencyHistogram(); // first guess to result
+    private final LatencyHistogram guessNanos = new LatencyHistogram(); // between guesses
+
+    private long changes; // bumped by every record, so autosave can skip unchanged stats
+    private long savedChanges;
+
+    /**
+     * Records a finished game.
+     *
+     * @param target   the hidden word
+     * @param guesses  the accepted guesses, in order
+     * @param won      whether the last guess was the target
+     * @param nanos    how long the game took, or a negative number if unknown
+     */
+    public synchronized void recordGame(
+            String target, List<String> guesses, boolean won, long nanos
+    ) {
+        int length = target.trim().length();
+        long code = PackedWordList.encode(target, length);
+        if (code < 0) {
+            throw new IllegalArgumentException("Not a word: " + target);
+        }
+        games++;
+        if (won) {
+            wins++;
+            currentStreak++;
+            maxStreak = Math.max(maxStreak, currentStreak);
+            histogram[Math.min(guesses.size(), MAX_TRACKED_GUESSES)]++;
+        } else {
+            currentStreak = 0;
+            histogram[0]++; // losses are kept in bucket 0
+        }
+        // each letter of the target counts once per game
+        int seen = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = (int) (code >>> (5 * i)) & 31;
+            if ((seen & 1 << letter) == 0) {
+                seen |= 1 << letter;
+                letterGames[letter]++;
+                if (!won) {
+                    letterLosses[letter]++;
+                }
+            }
+        }
+        wordPlays.add(code);
+        if (!won) {
+            wordLosses.add(code);
+        }
+        if (!guesses.isEmpty()) {
+            long opener = PackedWordList.encode(guesses.get(0), length);
+            if (opener >= 0) {
+                openers.add(opener);
+            }
+        }
+        if (nanos >= 0) {
+            gameNanos.record(nanos);
+        }
+        changes++;
+    }
+
+    /**
+     * Records how long the player took to make a guess.
+     */
+    public synchronized void recordGuessTime(long nanos) {
+        guessNanos.record(nanos);
+        changes++;
+    }
+
+    public synchronized long getGames() {
+        return games;
+    }
+
+    public synchronized long getWins() {
+        return wins;
+    }
+
+    public synchronized int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public synchronized int getMaxStreak() {
+        return maxStreak;
+    }
+
+    // wins in the given number of guesses (guesses = 0 gives the losses)
+    public synchronized long getHistogram(int guesses) {
+        return histogram[Math.min(guesses, MAX_TRACKED_GUESSES)];
+    }
+
+    /**
+     * Returns the share of games lost whose target had the given letter, or 0 if
+     * there were none.
+     */
+    public synchronized double getLetterLossRate(char letter) {
+        int c = FeedbackScorer.letterCode(letter);
+        return letterGames[c] == 0 ? 0 : (double) letterLosses[c] / letterGames[c];
+    }
+
+    /**
+     * Returns the (estimated) share of games with the given target that were
+     * lost, or 0 if it was never played.
+     */
+    public synchronized double getWordLossRate(String word) {
+        long code = PackedWordList.encode(word, word.trim().length());
+        int plays = code < 0 ? 0 : wordPlays.estimate(code);
+        return plays == 0 ? 0 : Math.min(1, (double) wordLosses.estimate(code) / plays);
+    }
+
+    // (estimated) number of games started with the given guess
+    public synchronized int getOpenerCount(String word) {
+        long code = PackedWordList.encode(word, word.trim().length());
+        return code < 0 ? 0 : openers.estimate(code);
+    }
+
+    // game length in nanoseconds at a percentile (0 to 100)
+    public synchronized long getGameTime(double percentile) {
+        return gameNanos.getPercentile(percentile);
+    }
+
+    // time taken for a guess in nanoseconds at a percentile (0 to 100)
+    public synchronized long getGuessTime(double percentile) {
+        return guessNanos.getPercentile(percentile);
+    }
+
+    // turns a packed word of any length back into an uppercase word (its length
+    // is the number of 5-bit letters, which are never 0)
+    private static String decode(long code) {
+        int length = (64 - Long.numberOfLeadingZeros(code) + 4) / 5;
+        return PackedWordList.decode(code, length).toUpperCase();
+    }
+
+    /**
+     * Returns the statistics as text, for the stats window.
+     */
+    public synchronized String getReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Played: %d   Win %%: %.0f%n", games,
+                games == 0 ? 0.0 : 100.0 * wins / games));
+        sb.append(String.format("Current streak: %d   Max streak: %d%n%n", currentStreak,
+                maxStreak));
+        sb.append("Guess distribution:\n");
+        long most = 1;
+        int last = 0;
+        for (int g = 1; g <= MAX_TRACKED_GUESSES; g++) {
+            most = Math.max(most, histogram[g]);
+            if (histogram[g] > 0) {
+                last = g;
+            }
+        }
+        for (int g = 1; g <= Math.max(last, 6); g++) {
+            int bar = (int) (30 * histogram[g] / most);
+            sb.append(String.format("%2d%s | %s %d%n", g, g == MAX_TRACKED_GUESSES ? "+" : " ",
+                    "#".repeat(bar), histogram[g]));
+        }
+        sb.append(String.format(" X  | %d%n", histogram[0]));
+        if (gameNanos.getCount() > 0) {
+            sb.append(String.format("%nGame time: median %.0fs, 90th percentile %.0fs%n",
+                    gameNanos.getPercentile(50) / 1e9, gameNanos.getPercentile(90) / 1e9));
+        }
+        if (guessNanos.getCount() > 0) {
+            sb.append(String.format("Time per guess: median %.1fs, 90th percentile %.1fs%n",
+                    guessNanos.getPercentile(50) / 1e9, guessNanos.getPercentile(90) / 1e9));
+        }
+        // the three letters whose targets were lost most often
+        boolean[] listed = new boolean[LETTERS];
+        StringBuilder letters = new StringBuilder();
+        for (int n = 0; n < 3; n++) {
+            int worst = 0;
+            for (int c = 1; c < LETTERS; c++) {
+                if (!listed[c] && letterLosses[c] > 0 && (worst == 0
+                        || letterLosses[c] * letterGames[worst]
+                        > letterLosses[worst] * letterGames[c])) {
+                    worst = c;
+                }
+            }
+            if (worst == 0) {
+                break;
+            }
+            listed[worst] = true;
+            letters.append(String.format(" %c (%.0f%% lost)", (char) ('A' + worst - 1),
+                    100.0 * letterLosses[worst] / letterGames[worst]));
+        }
+        if (letters.length() > 0) {
+            sb.append("\nHardest letters:").append(letters).append('\n');
+        }
+        if (wordLosses.getTopSize() > 0) {
+            sb.append("Most missed words:");
+            for (int n = 0; n < Math.min(5, wordLosses.getTopSize()); n++) {
+                sb.append(' ').append(decode(wordLosses.getTopWord(n)))
+                        .append(" (").append(wordLosses.getTopCount(n)).append(')');
+            }
+            sb.append('\n');
+        }
+        if (openers.getTopSize() > 0) {
+            sb.append("Favorite openers:");
+            for (int n = 0; n < Math.min(3, openers.getTopSize()); n++) {
+                sb.append(' ').append(decode(openers.getTopWord(n)))
+                        .append(" (").append(openers.getTopCount(n)).append(')');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Saves the statistics to a file. The data is written to a temporary file
+     * first, so a reader never sees a half-written snapshot.
+     */
+    public synchronized void save(Path path) throws IOException {
+        Path tmp = Files.createTempFile(path.toAbsolutePath().getParent(), "stats", ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(games);
+            out.writeLong(wins);
+            out.writeInt(currentStreak);
+            out.writeInt(maxStreak);
+            for (long[] a : new long[][] { histogram, letterGames, letterLosses }) {
+                for (long v : a) {
+                    out.writeLong(v);
+                }
+            }
+            wordPlays.write(out);
+            wordLosses.write(out);
+            openers.write(out);
+            gameNanos.write(out);
+            guessNanos.write(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        savedChanges = changes;
+    }
+
+    /**
+     * Loads statistics saved by save.
+     *
+     * @throws IOException if the file can't be read or isn't a statistics file
+     */
+    public static GameStatistics load(Path path) throws IOException {
+        GameStatistics s = new GameStatistics();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a statistics file: " + path);
+            }
+            s.games = in.readLong();
+            s.wins = in.readLong();
+            s.currentStreak = in.readInt();
+            s.maxStreak = in.readInt();
+            for (long[] a : new long[][] { s.histogram, s.letterGames, s.letterLosses }) {
+                for (int i = 0; i < a.length; i++) {
+                    a[i] = in.readLong();
+                }
+            }
+            s.wordPlays.read(in);
+            s.wordLosses.read(in);
+            s.openers.read(in);
+            s.gameNanos.read(in);
+            s.guessNanos.read(in);
+        }
+        return s;
+    }
+
+    /**
+     * Loads the statistics saved at path, or starts new ones if there is no file
+     * or it can't be read.
+     */
+    public static GameStatistics loadOrCreate(Path path) {
+        if (Files.exists(path)) {
+            try {
+                return load(path);
+            } catch (IOException e) {
+                EventLog.ioError("read statistics " + path, e);
+            }
+        }
+        return new GameStatistics();
+    }
+
+    // saves the statistics if anything was recorded since the last save
+    synchronized void saveIfChanged(Path path) throws IOException {
+        if (changes != savedChanges) {
+            save(path);
+        }
+    }
+
+    // one daemon thread saves the statistics of every board
+    private static final class Saver {
+        private static final ScheduledExecutorService EXECUTOR =
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "wordle-stats");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * Saves the statistics to path every period, skipping periods in which
+     * nothing was recorded. Cancel the returned future to stop.
+     */
+    public ScheduledFuture<?> startAutoSave(Path path, Duration period) {
+        long millis = period.toMillis();
+        return Saver.EXECUTOR.scheduleWithFixedDelay(() -> {
+            try {
+                saveIfChanged(path);
+            } catch (IOException e) {
+                EventLog.ioError("save statistics " + path, e);
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,63 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class GameStatisticsTest {
+    @Test
+    public void testHistogramStreaksAndLetters() {
+        GameStatistics s = new GameStatistics();
+        s.recordGame("CRANE", List.of("SPENT", "CRANE"), true, 1_000_000_000L);
+        s.recordGame("spent", List.of("CRANE", "SPELT", "SPENT"), true, -1);
+        s.recordGame("QUERY", List.of("CRANE", "ARISE", "COUNT", "MOUNT", "SPENT", "SPELT"),
+                false, 5_000_000_000L);
+        s.recordGame("ARISE", List.of("ARISE"), true, 500_000_000L);
+
+        Assertions.assertEquals(4, s.getGames());
+        Assertions.assertEquals(3, s.getWins());
+        Assertions.assertEquals(1, s.getCurrentStreak());
+        Assertions.assertEquals(2, s.getMaxStreak());
+        Assertions.assertEquals(1, s.getHistogram(1));
+        Assertions.assertEquals(1, s.getHistogram(2));
+        Assertions.assertEquals(1, s.getHistogram(0)); // the loss
+        Assertions.assertEquals(1.0, s.getLetterLossRate('q'));
+        Assertions.assertEquals(1.0 / 3, s.getLetterLossRate('R')); // CRANE, QUERY, ARISE
+        Assertions.assertEquals(1.0, s.getWordLossRate("query"));
+        Assertions.assertEquals(0.0, s.getWordLossRate("CRANE"));
+        Assertions.assertEquals(2, s.getOpenerCount("CRANE"));
+        // percentiles are within 12.5% of the real value
+        Assertions.assertEquals(1e9, s.getGameTime(50), 1.25e8);
+        Assertions.assertEquals(5e9, s.getGameTime(100), 1);
+        Assertions.assertTrue(s.getReport().contains("Most missed words: QUERY (1)"));
+    }
+
+    @Test
+    public void testSnapshotStaysTheSameSize(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("stats.bin");
+        GameStatistics s = new GameStatistics();
+        s.save(path);
+        long emptySize = Files.size(path);
+
+        WordDictionary d = WordDictionary.getInstance();
+        for (int i = 0; i < 5000; i++) {
+            String target = d.wordAt(i % d.size());
+            s.recordGame(target, List.of("crane", target), i % 7 != 0, i * 1_000_000L);
+            s.recordGuessTime(i);
+        }
+        s.save(path);
+        // the counters are fixed arrays, only how well they compress changes
+        Assertions.assertTrue(Files.size(path) < emptySize + 64 * 1024);
+
+        GameStatistics loaded = GameStatistics.load(path);
+        Assertions.assertEquals(5000, loaded.getGames());
+        Assertions.assertEquals(s.getWins(), loaded.getWins());
+        Assertions.assertEquals(s.getMaxStreak(), loaded.getMaxStreak());
+        Assertions.assertEquals(s.getReport(), loaded.getReport());
+        Assertions.assertEquals(5000, loaded.getOpenerCount("CRANE"));
+    }
+}
@@ -0,0 +1,215 @@
+package org.gameProject.wordle1;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import javax.swing.JMenuItem;
+import javax.swing.JPopupMenu;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+/**
+ * GuessAssistant checks the guess in the text box while it is being typed and
+ * shows a dropdown of words that start with what was typed. The text turns green
+ * when it is a guess the game will accept and red when no word can start with
+ * it.
+ *
+ * The Event Dispatch Thread only schedules the lookup: it runs on a background
+ * thread DEBOUNCE_MILLIS after the last keystroke, against the DAWG of the word
+ * bank (see WordDawg), so a burst of typing is looked up once. The DAWG is built
+ * on that thread too, by the first lookup. Every keystroke
+ * makes the lookup in progress stale; a stale lookup stops walking the DAWG and
+ * its result is thrown away instead of shown.
+ *
+ * Suggestions are ranked: words that fit the colors of the guesses so far (the
+ * possible answers) come first, then the other words, each in alphabetical
+ * order.
+ */
+public class GuessAssistant {
+    public static final int MAX_SUGGESTIONS = 8;
+    static final long DEBOUNCE_MILLIS = 30;
+
+    private static final Color VALID = new Color(0, 128, 0);
+    private static final Color INVALID = new Color(200, 0, 0);
+
+    // one daemon thread does the lookups of every text box
+    private static final class Worker {
+        private static final ScheduledExecutorService EXECUTOR =
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "wordle-suggestions");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    private final WordleGameBoard board;
+    private final JTextField field;
+    private final WordDictionary dictionary; // its index is built on the worker when first used
+    private final JPopupMenu popup = new JPopupMenu();
+    private final AtomicLong generation = new AtomicLong(); // bumped by every keystroke
+    private ScheduledFuture<?> pending; // only used on the EDT
+
+    /**
+     * What a lookup found for the text in the box.
+     */
+    public static final class Result {
+        private final boolean valid;
+        private final boolean possible;
+        private final List<String> suggestions;
+
+        Result(boolean valid, boolean possible, List<String> suggestions) {
+            this.valid = valid;
+            this.possible = possible;
+            this.suggestions = suggestions;
+        }
+
+        // whether the game would accept the text as a guess
+        public boolean isValid() {
+            return valid;
+        }
+
+        // whether some word of the right length starts with the text
+        public boolean isPossible() {
+            return possible;
+        }
+
+        // up to MAX_SUGGESTIONS words in uppercase, possible answers first
+        public List<String> getSuggestions() {
+            return suggestions;
+        }
+    }
+
+    public GuessAssistant(WordleGameBoard board, JTextField field) {
+        this.board = board;
+        this.field = field;
+        this.dictionary = board.getMode().getDictionary();
+        popup.setFocusable(false); // typing stays in the text box
+        field.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                textChanged();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                textChanged();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                textChanged();
+            }
+        });
+    }
+
+    /**
+     * Looks up the text in the box. cancel returns the generation the lookup is
+     * for; the walk stops as soon as it changes.
+     *
+     * @param possible the words that fit the colors so far, or null to rank all
+     *                 words the same
+     * @param hardMode whether a guess also has to fit the colors to be valid
+     * @return the result, or null if the lookup was cancelled
+     */
+    public static Result lookup(WordDawg index, int length, WordQuery possible,
+            boolean hardMode, String text, LongSupplier cancel) {
+        long gen = cancel.getAsLong();
+        String s = text.trim();
+        if (s.isEmpty() || s.length() > length || !isLetters(s)) {
+            return new Result(false, false, List.of());
+        }
+        List<String> found = new ArrayList<>(MAX_SUGGESTIONS);
+        WordDawg.Visitor collect = (letters, n) -> {
+            String w = new String(letters, 0, n);
+            if (!found.contains(w)) {
+                found.add(w);
+            }
+            return found.size() < MAX_SUGGESTIONS && cancel.getAsLong() == gen;
+        };
+        BooleanSupplier stale = () -> cancel.getAsLong() != gen;
+        if (possible != null) {
+            index.find(possible.startingWith(s), collect, stale);
+        }
+        int fitting = found.size();
+        if (found.size() < MAX_SUGGESTIONS && !stale.getAsBoolean()) {
+            index.find(WordQuery.prefix(s, length), collect, stale);
+        }
+        if (cancel.getAsLong() != gen) {
+            return null;
+        }
+        boolean valid = s.length() == length && index.contains(s);
+        if (valid && hardMode && possible != null) {
+            // a whole word only starts itself, so it fits the colors if it was found first
+            valid = fitting > 0;
+        }
+        return new Result(valid, !found.isEmpty(), Collections.unmodifiableList(found));
+    }
+
+    private static boolean isLetters(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (FeedbackScorer.letterCode(s.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // runs on the EDT for every keystroke: makes the last lookup stale and
+    // schedules a new one
+    private void textChanged() {
+        long gen = generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        String text = field.getText();
+        if (text.trim().isEmpty()) {
+            field.setForeground(Color.BLACK);
+            popup.setVisible(false);
+            return;
+        }
+        int length = board.getMode().getWordLength();
+        WordQuery possible = board.getPossibleAnswers();
+        boolean hardMode = board.isHardMode();
+        pending = Worker.EXECUTOR.schedule(() -> {
+            // building the index of a large word bank takes a while, so not on the EDT
+            WordDawg index = dictionary.getIndex();
+            Result r = lookup(index, length, possible, hardMode, text, generation::get);
+            if (r != null) {
+                SwingUtilities.invokeLater(() -> {
+                    if (generation.get() == gen) {
+                        show(r);
+                    }
+                });
+            }
+        }, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    // runs on the EDT: colors the text and fills the dropdown
+    private void show(Result r) {
+        field.setForeground(r.isValid() ? VALID : r.isPossible() ? Color.BLACK : INVALID);
+        popup.setVisible(false);
+        popup.removeAll();
+        if (r.isValid() || r.getSuggestions().isEmpty() || !field.isShowing()) {
+            return;
+        }
+        for (String word : r.getSuggestions()) {
+            JMenuItem item = new JMenuItem(word);
+            item.addActionListener(e -> {
+                field.setText(word); // looked up again like typing
+                field.requestFocusInWindow();
+            });
+            popup.add(item);
+        }
+        popup.show(field, 0, field.getHeight());
+    }
+}
@@ -0,0 +1,51 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class GuessAssistantTest {
+    @Test
+    public void testValidationAndRanking() {
+        WordDawg index = WordDawg.of(List.of(
+                "crane", "crate", "crest", "cramp", "spent", "split", "spelt"
+        ));
+        GuessAssistant.Result r = GuessAssistant.lookup(index, 5, null, false, " cra", () -> 0);
+        Assertions.assertFalse(r.isValid());
+        Assertions.assertTrue(r.isPossible());
+        Assertions.assertEquals(List.of("CRAMP", "CRANE", "CRATE"), r.getSuggestions());
+
+        Assertions.assertTrue(GuessAssistant.lookup(index, 5, null, false, "Spent", () -> 0)
+                .isValid());
+        GuessAssistant.Result none = GuessAssistant.lookup(index, 5, null, false, "xq", () -> 0);
+        Assertions.assertFalse(none.isPossible());
+        Assertions.assertFalse(GuessAssistant.lookup(index, 5, null, false, "spents", () -> 0)
+                .isPossible());
+
+        // words that fit the colors come first, and only they are valid in hard mode
+        ConstraintState state = new ConstraintState(5);
+        state.update("spent", FeedbackScorer.score("spent", "crate"));
+        WordQuery possible = WordQuery.of(state);
+        GuessAssistant.Result ranked = GuessAssistant.lookup(index, 5, possible, true, "c",
+                () -> 0);
+        Assertions.assertEquals(List.of("CRATE", "CRAMP", "CRANE", "CREST"),
+                ranked.getSuggestions());
+        Assertions.assertTrue(GuessAssistant.lookup(index, 5, possible, true, "crate", () -> 0)
+                .isValid());
+        Assertions.assertFalse(GuessAssistant.lookup(index, 5, possible, true, "crest", () -> 0)
+                .isValid());
+        Assertions.assertTrue(GuessAssistant.lookup(index, 5, possible, false, "crest", () -> 0)
+                .isValid());
+    }
+
+    @Test
+    public void testStaleLookupIsCancelled() {
+        WordDawg index = WordDictionary.getInstance().getIndex();
+        long[] gen = { 0 };
+        // a keystroke arrives after the first word is found
+        GuessAssistant.Result r = GuessAssistant.lookup(index, 5, null, false, "s",
+                () -> gen[0]++);
+        Assertions.assertNull(r);
+    }
+}
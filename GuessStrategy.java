@@ -0,0 +1,20 @@
+package org.gameProject.wordle1;
+
+/**
+ * A GuessStrategy decides what word to guess next, given the guesses made so far
+ * in a game and the pattern ids (see FeedbackScorer) they got back.
+ *
+ * The batch simulator calls the same strategy from many threads at once, one game
+ * per thread, so implementations must not keep per-game state in fields.
+ */
+@FunctionalInterface
+public interface GuessStrategy {
+    /**
+     * Returns the next guess.
+     *
+     * @param guesses  previous guesses; only the first turn entries are used
+     * @param patterns pattern ids of the previous guesses
+     * @param turn     number of guesses made so far
+     */
+    String nextGuess(String[] guesses, int[] patterns, int turn);
+}
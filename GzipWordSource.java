@@ -0,0 +1,31 @@
+package org.gameProject.wordle1;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads a gzipped text word list (one word per line) from a file, decompressing
+ * it as it is parsed.
+ */
+public class GzipWordSource implements WordSource {
+    private final Path path;
+
+    public GzipWordSource(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public PackedWordList load(int wordLength) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path), 64 * 1024)) {
+            return PackedWordList.parse(in, wordLength);
+        }
+    }
+
+    @Override
+    public String describe() {
+        return path.toString();
+    }
+}
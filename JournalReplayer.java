@@ -0,0 +1,317 @@
+package org.gameProject.wordle1;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * JournalReplayer checks saved games without the GUI. It reads a game journal
+ * (see GameJournal), a directory of them, or an archive of journals copied one
+ * after another into a single file, and replays every game through
+ * Wordle1.playTurn and getColors to check that
+ *   - its target and every guess are words the game accepts,
+ *   - every guess was saved with the colors the game gives it,
+ *   - no guess was saved after the game ended,
+ *   - its result and snapshots match the replay.
+ *
+ * Files are memory-mapped and scanned once from start to end, checking each
+ * record's checksum and remembering only where each game's latest record is.
+ * The games are then replayed in parallel, each by following its chain of
+ * records back to its start, so memory use depends on the number of games in
+ * a journal, not on the size of the file. Damaged records are counted and
+ * skipped up to the next journal in the file.
+ */
+public class JournalReplayer {
+    // bytes per memory map; maps overlap by a record, so a record is always in one map
+    static final long WINDOW = 1L << 30;
+
+    private static final int PREVIOUS = 4 + 1 + 8; // where a record's previous offset is
+
+    /**
+     * Replays a journal, an archive of journals or every file in a directory
+     * (except the journals' index files).
+     */
+    public ReplayReport run(Path path) throws IOException {
+        long start = System.nanoTime();
+        ReplayReport report = new ReplayReport();
+        if (Files.isDirectory(path)) {
+            List<Path> files;
+            try (Stream<Path> s = Files.list(path)) {
+                files = s.filter(Files::isRegularFile)
+                        .filter(f -> !f.toString().endsWith(GameJournal.INDEX_SUFFIX))
+                        .sorted().collect(Collectors.toList());
+            }
+            for (Path f : files) {
+                report.merge(replayFile(f));
+            }
+        } else {
+            report.merge(replayFile(path));
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Replays every journal in one file.
+     */
+    public ReplayReport replayFile(Path path) throws IOException {
+        ReplayReport report = new ReplayReport();
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            Archive a = new Archive(ch, path.getFileName().toString());
+            report.addFile(a.size);
+            if (!a.isHeader(0)) {
+                report.addSkippedFile(a.name);
+                return report;
+            }
+            long pos = 0;
+            int segment = 0;
+            while (pos < a.size) {
+                if (!a.isHeader(pos)) {
+                    // damaged data between two journals
+                    long next = a.findHeader(pos + 1);
+                    report.addCorruptBytes(next - pos);
+                    pos = next;
+                    continue;
+                }
+                pos = replaySegment(a, pos, ++segment, report);
+            }
+        }
+        return report;
+    }
+
+    // scans the journal that starts at base and replays its games; returns where it ends
+    private long replaySegment(Archive a, long base, int segment, ReplayReport report) {
+        report.addSegment();
+        GameJournal.OffsetIndex latest = new GameJournal.OffsetIndex();
+        CRC32 crc = new CRC32();
+        long pos = base + GameJournal.HEADER_BYTES;
+        while (pos < a.size && !a.isHeader(pos)) {
+            int length = pos + 4 <= a.size ? a.getInt(pos) : -1;
+            if (length < GameJournal.BODY_PREFIX || length > GameJournal.MAX_RECORD
+                    || pos + 8 + length > a.size || !a.checksumMatches(crc, pos, length)) {
+                // a torn or damaged record: skip to the next journal, if there is one
+                long next = a.findHeader(pos + 1);
+                report.addCorruptBytes(next - pos);
+                pos = next;
+                break;
+            }
+            latest.put(a.getLong(pos + 5), pos);
+            report.addRecord();
+            pos += 8 + length;
+        }
+        String where = a.name + "#" + segment;
+        report.merge(Arrays.stream(latest.values()).parallel().collect(
+                ReplayReport::new,
+                (r, tail) -> {
+                    try {
+                        replayGame(a, base, tail, where, r);
+                    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                        // a record whose data doesn't fit its length
+                        r.addProblem(ReplayReport.Problem.BROKEN_CHAIN, where + " at " + tail);
+                        r.addGame(false, false, 0, true);
+                    }
+                },
+                ReplayReport::merge
+        ));
+        return pos;
+    }
+
+    /**
+     * Replays one game from the offset of its latest record.
+     */
+    void replayGame(Archive a, long base, long tail, String segment, ReplayReport report) {
+        long gameId = a.getLong(tail + 5);
+        String where = segment + " game " + gameId;
+
+        // follow the chain back to the first record; offsets are from the journal's start
+        long[] chain = new long[16];
+        int n = 0;
+        long pos = tail;
+        while (true) {
+            if (n == chain.length) {
+                chain = Arrays.copyOf(chain, n * 2);
+            }
+            chain[n++] = pos;
+            long previous = a.getLong(pos + PREVIOUS);
+            if (previous < 0) {
+                break;
+            }
+            long p = base + previous;
+            if (p < base + GameJournal.HEADER_BYTES || p >= pos || a.getLong(p + 5) != gameId) {
+                report.addProblem(ReplayReport.Problem.BROKEN_CHAIN, where);
+                report.addGame(false, false, 0, true);
+                return;
+            }
+            pos = p;
+        }
+        long first = chain[n - 1];
+        if (a.get(first + 4) != GameJournal.NEW_GAME) {
+            report.addProblem(ReplayReport.Problem.BROKEN_CHAIN, where);
+            report.addGame(false, false, 0, true);
+            return;
+        }
+
+        // the start: target word and guess limit
+        ByteBuffer start = a.body(first);
+        String target = readWord(start);
+        int maxGuesses = start.hasRemaining() ? start.get() : Wordle1.MAX_GUESSES;
+        Wordle1 w;
+        try {
+            GameMode mode = GameMode.of(target.length(), maxGuesses);
+            WordDictionary d = WordDictionary.forLength(target.length());
+            if (!d.contains(target)) {
+                throw new IllegalArgumentException("Not a word: " + target);
+            }
+            w = new Wordle1(mode, d);
+        } catch (IllegalArgumentException e) {
+            report.addProblem(ReplayReport.Problem.BAD_TARGET, where);
+            report.addGame(false, false, 0, true);
+            return;
+        }
+        w.setWordleWord(target.trim().toUpperCase());
+        WordScorer scorer = w.getMode().getScorer();
+
+        boolean problem = false;
+        boolean resultSeen = false;
+        for (int i = n - 2; i >= 0; i--) {
+            ByteBuffer body = a.body(chain[i]);
+            byte type = a.get(chain[i] + 4);
+            ReplayReport.Problem found = null;
+            if (type == GameJournal.GUESS) {
+                String guess = readWord(body);
+                int pattern = body.getInt();
+                if (w.getGameOver()) {
+                    found = ReplayReport.Problem.GUESS_AFTER_END;
+                } else if (!w.playTurn(guess)) {
+                    found = ReplayReport.Problem.INVALID_GUESS;
+                } else if (pattern < 0 || pattern >= scorer.getNumPatterns() || !w.getColors(
+                        guess, w.getWordleWord()).equals(scorer.toColors(pattern))) {
+                    found = ReplayReport.Problem.WRONG_COLORS;
+                }
+            } else if (type == GameJournal.RESULT) {
+                boolean won = body.get() == 1;
+                int numGuesses = body.get();
+                if (resultSeen || !w.getGameOver() || won != w.getWonGame()
+                        || numGuesses != w.getNumGuesses()) {
+                    found = ReplayReport.Problem.WRONG_RESULT;
+                }
+                resultSeen = true;
+            } else if (type == GameJournal.SNAPSHOT || type == GameJournal.MODE_SNAPSHOT) {
+                GameSnapshot snap = GameJournal.readSnapshot(type, body);
+                if (!snap.getMode().equals(w.getMode())
+                        || snap.getPackedTarget() != scorer.pack(w.getWordleWord())
+                        || snap.getNumGuesses() != w.getNumGuesses()
+                        || snap.getGameOver() != w.getGameOver()
+                        || snap.getWonGame() != w.getWonGame()) {
+                    found = ReplayReport.Problem.WRONG_SNAPSHOT;
+                }
+            } else {
+                found = ReplayReport.Problem.BROKEN_CHAIN; // a second start, or an unknown record
+            }
+            if (found != null) {
+                report.addProblem(found, where);
+                problem = true;
+            }
+        }
+        report.addGame(resultSeen, w.getWonGame(), w.getNumGuesses(), problem);
+    }
+
+    private static String readWord(ByteBuffer b) {
+        byte[] word = new byte[b.get() & 0xFF];
+        b.get(word);
+        return new String(word, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A file mapped into memory in windows of WINDOW bytes (plus the largest
+     * record, so every record that starts in a window ends in it too). Only
+     * absolute reads are used, so any number of threads can read it at once.
+     */
+    static final class Archive {
+        final String name;
+        final long size;
+        private final MappedByteBuffer[] windows;
+
+        Archive(FileChannel ch, String name) throws IOException {
+            this.name = name;
+            this.size = ch.size();
+            windows = new MappedByteBuffer[(int) ((size + WINDOW - 1) / WINDOW)];
+            for (int k = 0; k < windows.length; k++) {
+                long start = k * WINDOW;
+                long length = Math.min(size - start, WINDOW + GameJournal.MAX_RECORD + 8);
+                // the mappings stay valid after the channel is closed
+                windows[k] = ch.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+        }
+
+        private MappedByteBuffer window(long pos) {
+            return windows[(int) (pos / WINDOW)];
+        }
+
+        private int offset(long pos) {
+            return (int) (pos % WINDOW);
+        }
+
+        byte get(long pos) {
+            return window(pos).get(offset(pos));
+        }
+
+        int getInt(long pos) {
+            return window(pos).getInt(offset(pos));
+        }
+
+        long getLong(long pos) {
+            return window(pos).getLong(offset(pos));
+        }
+
+        // the data of the record at pos (after its type, game id and previous offset)
+        ByteBuffer body(long pos) {
+            int length = getInt(pos);
+            ByteBuffer b = window(pos).duplicate();
+            int start = offset(pos) + 4 + GameJournal.BODY_PREFIX;
+            b.limit(offset(pos) + 4 + length).position(start);
+            return b;
+        }
+
+        boolean checksumMatches(CRC32 crc, long pos, int length) {
+            ByteBuffer b = window(pos).duplicate();
+            b.limit(offset(pos) + 4 + length).position(offset(pos) + 4);
+            crc.reset();
+            crc.update(b);
+            return (int) crc.getValue() == getInt(pos + 4 + length);
+        }
+
+        // whether a journal header starts at pos
+        boolean isHeader(long pos) {
+            return pos + GameJournal.HEADER_BYTES <= size && getInt(pos) == GameJournal.MAGIC
+                    && getInt(pos + 4) == GameJournal.VERSION;
+        }
+
+        // the position of the next journal header at or after pos, or size if there is none
+        long findHeader(long pos) {
+            for (long p = pos; p + GameJournal.HEADER_BYTES <= size; p++) {
+                if (isHeader(p)) {
+                    return p;
+                }
+            }
+            return size;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = args.length > 0 ? Paths.get(args[0]) : WordleGameBoard.DEFAULT_DATA_PATH;
+        System.out.print(new JournalReplayer().run(path));
+    }
+}
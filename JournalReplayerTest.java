@@ -0,0 +1,104 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class JournalReplayerTest {
+    // a won game with a snapshot and an unfinished game
+    private static void writeGoodGames(Path file) throws Exception {
+        try (GameJournal j = GameJournal.open(file)) {
+            long won = j.newGame("SPENT");
+            long open = j.newGame("CRANE");
+            Wordle1 w = new Wordle1();
+            w.setWordleWord("SPENT");
+            for (String guess : List.of("ARISE", "COUNT", "SPENT")) {
+                w.playTurn(guess);
+                j.appendGuess(won, guess, w.getPattern(guess, "SPENT"));
+            }
+            j.appendGuess(open, "ARISE", FeedbackScorer.score("ARISE", "CRANE"));
+            j.appendResult(won, true, 3);
+            j.appendSnapshot(won, GameSnapshot.of(w, List.of("ARISE", "COUNT", "SPENT")));
+        }
+    }
+
+    // one game for each kind of mistake
+    private static void writeBadGames(Path file) throws Exception {
+        try (GameJournal j = GameJournal.open(file)) {
+            long colors = j.newGame("SPENT");
+            j.appendGuess(colors, "ARISE", 0);
+            long invalid = j.newGame("SPENT");
+            j.appendGuess(invalid, "QQQQQ", 0);
+            long afterEnd = j.newGame("CRANE");
+            j.appendGuess(afterEnd, "CRANE", FeedbackScorer.ALL_GREEN);
+            j.appendResult(afterEnd, true, 1);
+            j.appendGuess(afterEnd, "SPENT", FeedbackScorer.score("SPENT", "CRANE"));
+            long result = j.newGame("CRANE");
+            j.appendGuess(result, "CRANE", FeedbackScorer.ALL_GREEN);
+            j.appendResult(result, false, 1);
+        }
+    }
+
+    private static void assertBadGamesFound(ReplayReport r) {
+        Assertions.assertEquals(6, r.getGames());
+        Assertions.assertEquals(4, r.getBadGames());
+        Assertions.assertEquals(3, r.getFinished());
+        Assertions.assertEquals(1, r.getProblems(ReplayReport.Problem.WRONG_COLORS));
+        Assertions.assertEquals(1, r.getProblems(ReplayReport.Problem.INVALID_GUESS));
+        Assertions.assertEquals(1, r.getProblems(ReplayReport.Problem.GUESS_AFTER_END));
+        Assertions.assertEquals(1, r.getProblems(ReplayReport.Problem.WRONG_RESULT));
+        Assertions.assertEquals(0, r.getProblems(ReplayReport.Problem.WRONG_SNAPSHOT));
+        Assertions.assertFalse(r.isClean());
+    }
+
+    @Test
+    public void testReplaysEveryJournalInADirectory(@TempDir Path dir) throws Exception {
+        writeGoodGames(dir.resolve("good.journal"));
+        writeBadGames(dir.resolve("bad.journal"));
+        Files.writeString(dir.resolve("notes.txt"), "not a journal\n");
+
+        JournalReplayer replayer = new JournalReplayer();
+        ReplayReport good = replayer.run(dir.resolve("good.journal"));
+        Assertions.assertTrue(good.isClean(), good.toString());
+        Assertions.assertEquals(2, good.getGames());
+        Assertions.assertEquals(1, good.getWins());
+        Assertions.assertEquals(8, good.getRecords());
+
+        ReplayReport all = replayer.run(dir);
+        Assertions.assertEquals(3, all.getFiles());
+        Assertions.assertEquals(1, all.getSkippedFiles());
+        assertBadGamesFound(all);
+        Assertions.assertTrue(all.toString().contains("bad.journal#1 game"), all.toString());
+    }
+
+    @Test
+    public void testArchiveOfJournalsWithDamage(@TempDir Path dir) throws Exception {
+        Path good = dir.resolve("good.journal");
+        Path bad = dir.resolve("bad.journal");
+        writeGoodGames(good);
+        writeBadGames(bad);
+        byte[] first = Files.readAllBytes(good);
+        byte[] second = Files.readAllBytes(bad);
+
+        // the good journal with a torn last record, the bad one, then junk
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        archive.write(first);
+        archive.write(Arrays.copyOfRange(second, GameJournal.HEADER_BYTES,
+                GameJournal.HEADER_BYTES + 10));
+        archive.write(second);
+        archive.write(new byte[] { 1, 2, 3 });
+        Path file = dir.resolve("archive.bin");
+        Files.write(file, archive.toByteArray());
+
+        ReplayReport r = new JournalReplayer().run(file);
+        Assertions.assertEquals(2, r.getSegments());
+        Assertions.assertEquals(13, r.getCorruptBytes());
+        assertBadGamesFound(r);
+    }
+}
@@ -0,0 +1,77 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A game read back from the GameJournal: the target word, the guesses in order
+ * with their pattern ids, the result if the game was finished, and its latest
+ * snapshot if it has one.
+ */
+public class JournaledGame {
+    private final long id;
+    private final String target;
+    private final int maxGuesses;
+    private final List<String> guesses = new ArrayList<>();
+    private final List<Integer> patterns = new ArrayList<>();
+    private boolean finished;
+    private boolean wonGame;
+    private GameSnapshot snapshot;
+
+    JournaledGame(long id, String target, int maxGuesses) {
+        this.id = id;
+        this.target = target;
+        this.maxGuesses = maxGuesses;
+    }
+
+    void addGuess(String guess, int pattern) {
+        guesses.add(guess);
+        patterns.add(pattern);
+    }
+
+    void setResult(boolean won) {
+        finished = true;
+        wonGame = won;
+    }
+
+    void setSnapshot(GameSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    // the mode the game was played in (its target's length and guess limit)
+    public GameMode getMode() {
+        return GameMode.of(target.length(), maxGuesses);
+    }
+
+    public List<String> getGuesses() {
+        return Collections.unmodifiableList(guesses);
+    }
+
+    // pattern id (see FeedbackScorer) of guess number i
+    public int getPattern(int i) {
+        return patterns.get(i);
+    }
+
+    // whether a result was journaled for this game
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean getWonGame() {
+        return wonGame;
+    }
+
+    // the latest snapshot of the game, or null if it has none
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
@@ -0,0 +1,123 @@
+package org.gameProject.wordle1;
+
+import java.awt.*;
+import javax.swing.*;
+
+/**
+ * Tile grid made of one JLabel per tile. While a batch is being applied the
+ * labels don't revalidate or repaint themselves; the grid repaints the changed
+ * area once at the end.
+ */
+@SuppressWarnings("serial")
+public class LabelTileGrid extends JPanel implements TileGrid {
+    private final Tile[][] tiles;
+    private boolean batching; // true while a row/board update is in progress
+
+    public LabelTileGrid(int rows, int cols) {
+        setLayout(new GridLayout(rows, cols));
+        tiles = new Tile[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                tiles[i][j] = new Tile();
+                add(tiles[i][j]);
+            }
+        }
+    }
+
+    // a label that stays quiet during a batch (the grid's layout never depends
+    // on the labels' text, so skipping revalidate is safe)
+    private final class Tile extends JLabel {
+        Tile() {
+            setOpaque(true);
+            setBorder(BorderFactory.createLineBorder(Color.BLACK));
+            setHorizontalAlignment(SwingConstants.CENTER);
+            setVerticalAlignment(SwingConstants.CENTER);
+            setBackground(EMPTY);
+        }
+
+        void set(String letter, Color color) {
+            if (!letter.equals(getText())) {
+                setText(letter);
+            }
+            if (!color.equals(getBackground())) {
+                setBackground(color);
+            }
+        }
+
+        @Override
+        public void revalidate() {
+            if (!batching) {
+                super.revalidate();
+            }
+        }
+
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+            if (!batching) {
+                super.repaint(tm, x, y, width, height);
+            }
+        }
+    }
+
+    @Override
+    public JComponent getComponent() {
+        return this;
+    }
+
+    @Override
+    public void setTile(int row, int col, String letter, Color color) {
+        tiles[row][col].set(letter, color);
+    }
+
+    @Override
+    public void setRow(int row, String word, int pattern) {
+        batching = true;
+        try {
+            fillRow(row, word, pattern);
+        } finally {
+            batching = false;
+        }
+        Rectangle r = tiles[row][0].getBounds().union(tiles[row][tiles[row].length - 1].getBounds());
+        repaint(r);
+    }
+
+    @Override
+    public void setBoard(GameSnapshot snap) {
+        batching = true;
+        try {
+            clearTiles();
+            for (int i = 0; i < snap.getGuessCount() && i < tiles.length; i++) {
+                fillRow(i, snap.getGuess(i), snap.getPattern(i));
+            }
+        } finally {
+            batching = false;
+        }
+        repaint();
+    }
+
+    @Override
+    public void clear() {
+        batching = true;
+        try {
+            clearTiles();
+        } finally {
+            batching = false;
+        }
+        repaint();
+    }
+
+    private void fillRow(int row, String word, int pattern) {
+        for (int j = 0; j < tiles[row].length; j++) {
+            String letter = j < word.length() ? Character.toString(word.charAt(j)) : "";
+            tiles[row][j].set(letter, TileGrid.tileColor(pattern, j));
+        }
+    }
+
+    private void clearTiles() {
+        for (Tile[] row : tiles) {
+            for (Tile t : row) {
+                t.set("", EMPTY);
+            }
+        }
+    }
+}
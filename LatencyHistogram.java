@@ -0,0 +1,128 @@
+package org.gameProject.wordle1;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A histogram of non-negative durations (or any long values) in a fixed number
+ * of buckets, so it takes the same memory whether it has seen ten values or ten
+ * billion. Buckets grow exponentially: every power of two is split into 8
+ * buckets, so a percentile is never off by more than 12.5%.
+ *
+ * Not thread-safe; the owner synchronizes.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKETS = 8; // per power of two
+    static final int BUCKETS = (64 - 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long max;
+
+    // bucket of a value: values below 8 get their own bucket
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int exp = 63 - Long.numberOfLeadingZeros(value); // at least 3
+        int sub = (int) (value >>> (exp - 3)) & (SUB_BUCKETS - 1);
+        return (exp - 2) * SUB_BUCKETS + sub;
+    }
+
+    // largest value that falls in a bucket
+    static long bucketTop(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exp = bucket / SUB_BUCKETS + 2;
+        long low = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exp - 3);
+        return low + (1L << (exp - 3)) - 1;
+    }
+
+    // a histogram with the given bucket counts (e.g. merged from Metrics' stripes)
+    static LatencyHistogram of(long[] bucketCounts, long sum, long max) {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < BUCKETS; i++) {
+            h.counts[i] = bucketCounts[i];
+            h.count += bucketCounts[i];
+        }
+        h.sum = sum;
+        h.max = max;
+        return h;
+    }
+
+    public void record(long value) {
+        counts[bucketOf(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the value at the given percentile (0 to 100), rounded up to the top
+     * of its bucket, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketTop(i), max);
+            }
+        }
+        return max;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeLong(sum);
+        out.writeLong(max);
+        for (long c : counts) {
+            out.writeLong(c);
+        }
+    }
+
+    void read(DataInput in) throws IOException {
+        count = in.readLong();
+        sum = in.readLong();
+        max = in.readLong();
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = in.readLong();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.gameProject.wordle1;
+
+import java.util.Arrays;
+
+/**
+ * LetterIndex stores, for a word bank, a bitset of the words that have each
+ * letter at each position and a bitset of the words that contain each letter at
+ * least k times. Bit i of a bitset is word number i in the dictionary.
+ *
+ * Feedback on a guess can be turned into a handful of ANDs over these bitsets,
+ * so filtering candidates works on 64 words at a time.
+ */
+public final class LetterIndex {
+    static final int LETTERS = 27; // letter codes 0 (not a letter) and 1..26
+
+    private final int size;
+    private final int wordsLength; // number of longs in a bitset
+    private final long[][][] atPosition; // [position][letter] -> words with letter at position
+    private final long[][] atLeast; // [letter * (WORD_LENGTH + 1) + k] -> words with >= k copies
+
+    public LetterIndex(WordDictionary d) {
+        size = d.size();
+        wordsLength = (size + 63) >>> 6;
+        int len = FeedbackScorer.WORD_LENGTH;
+        atPosition = new long[len][LETTERS][wordsLength];
+        atLeast = new long[LETTERS * (len + 1)][wordsLength];
+
+        int[] counts = new int[LETTERS];
+        for (int w = 0; w < size; w++) {
+            int code = d.codeAt(w);
+            long bit = 1L << w;
+            for (int i = 0; i < len; i++) {
+                int letter = FeedbackScorer.letterAt(code, i);
+                atPosition[i][letter][w >>> 6] |= bit;
+                counts[letter]++;
+                atLeast[letter * (len + 1) + counts[letter]][w >>> 6] |= bit;
+            }
+            for (int i = 0; i < len; i++) {
+                counts[FeedbackScorer.letterAt(code, i)] = 0;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // number of longs needed for a bitset over the word bank
+    public int bitsetLength() {
+        return wordsLength;
+    }
+
+    // returns a bitset with every word set
+    public long[] allWords() {
+        long[] bits = new long[wordsLength];
+        Arrays.fill(bits, -1L);
+        if ((size & 63) != 0) {
+            bits[wordsLength - 1] = (1L << (size & 63)) - 1;
+        }
+        return bits;
+    }
+
+    // words with the given letter at position i (shared, don't modify)
+    long[] withLetterAt(int i, int letter) {
+        return atPosition[i][letter];
+    }
+
+    // words with at least k copies of the given letter (shared, don't modify);
+    // k must be between 1 and WORD_LENGTH
+    long[] withAtLeast(int letter, int k) {
+        return atLeast[letter * (FeedbackScorer.WORD_LENGTH + 1) + k];
+    }
+
+    /**
+     * Removes every word from candidates that would not have given this pattern
+     * for this (packed) guess.
+     */
+    public void filter(long[] candidates, int guess, int pattern) {
+        int len = FeedbackScorer.WORD_LENGTH;
+        int seen = 0; // letters already handled by the count constraints
+        for (int i = 0; i < len; i++) {
+            int letter = FeedbackScorer.letterAt(guess, i);
+            if (FeedbackScorer.digitAt(pattern, i) == FeedbackScorer.GREEN) {
+                and(candidates, atPosition[i][letter]);
+            } else {
+                andNot(candidates, atPosition[i][letter]);
+            }
+
+            if ((seen & (1 << letter)) != 0) {
+                continue;
+            }
+            seen |= 1 << letter;
+            // the answer has exactly as many copies of a letter as the guess has
+            // colored copies if one of them was gray, otherwise at least that many
+            int colored = 0;
+            boolean gray = false;
+            for (int j = 0; j < len; j++) {
+                if (FeedbackScorer.letterAt(guess, j) == letter) {
+                    if (FeedbackScorer.digitAt(pattern, j) == FeedbackScorer.GRAY) {
+                        gray = true;
+                    } else {
+                        colored++;
+                    }
+                }
+            }
+            if (colored > 0) {
+                and(candidates, withAtLeast(letter, colored));
+            }
+            if (gray && colored < len) {
+                andNot(candidates, withAtLeast(letter, colored + 1));
+            }
+        }
+    }
+
+    static void and(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] &= b[i];
+        }
+    }
+
+    static void andNot(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] &= ~b[i];
+        }
+    }
+
+    static int cardinality(long[] a) {
+        int n = 0;
+        for (long l : a) {
+            n += Long.bitCount(l);
+        }
+        return n;
+    }
+}
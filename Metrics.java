@@ -0,0 +1,267 @@
+package org.gameProject.wordle1;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metrics times the model's hot paths (playTurn, isValidInput, getColors,
+ * reset, loading the word bank, saving and loading games) and counts a few
+ * events. Metrics are off unless the JVM is started with -Dwordle.metrics=true.
+ * ENABLED is a static final constant, so when it's false the JIT compiles
+ * start() to 0 and drops stop() and increment() entirely: the calls can stay
+ * in the code for free.
+ *
+ * When metrics are on, timers record into histograms like LatencyHistogram,
+ * striped by thread (each thread adds to one of a few copies of the buckets,
+ * with atomic increments and no locks) and merged when they are read. Every
+ * timer and counter is registered with the platform MBean server (under
+ * org.gameProject.wordle1:type=Timer or type=Counter) and dump() returns all
+ * of them as text.
+ *
+ * Usage:
+ *   long start = Metrics.start();
+ *   ...
+ *   Metrics.PLAY_TURN.stop(start);
+ */
+public final class Metrics {
+    public static final boolean ENABLED = Boolean.getBoolean("wordle.metrics");
+
+    private static final List<Timer> TIMERS = new ArrayList<>();
+    private static final List<Counter> COUNTERS = new ArrayList<>();
+
+    public static final Timer PLAY_TURN = timer("playTurn");
+    public static final Timer IS_VALID_INPUT = timer("isValidInput");
+    public static final Timer GET_COLORS = timer("getColors");
+    public static final Timer RESET = timer("reset");
+    public static final Timer DICTIONARY_LOAD = timer("dictionaryLoad");
+    public static final Timer SAVE_GAME = timer("saveGame");
+    public static final Timer LOAD_GAME = timer("loadGame");
+
+    public static final Counter INVALID_GUESSES = counter("invalidGuesses");
+    public static final Counter GAMES_WON = counter("gamesWon");
+    public static final Counter GAMES_LOST = counter("gamesLost");
+    public static final Counter IO_ERRORS = counter("ioErrors");
+
+    static {
+        if (ENABLED) {
+            registerMBeans();
+        }
+    }
+
+    private Metrics() {
+    }
+
+    private static Timer timer(String name) {
+        Timer t = new Timer(name);
+        TIMERS.add(t);
+        return t;
+    }
+
+    private static Counter counter(String name) {
+        Counter c = new Counter(name);
+        COUNTERS.add(c);
+        return c;
+    }
+
+    /**
+     * Returns the start time to pass to Timer.stop, or 0 when metrics are off.
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    public static List<Timer> getTimers() {
+        return Collections.unmodifiableList(TIMERS);
+    }
+
+    public static List<Counter> getCounters() {
+        return Collections.unmodifiableList(COUNTERS);
+    }
+
+    private static void registerMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (Timer t : TIMERS) {
+                server.registerMBean(t, new ObjectName(
+                        "org.gameProject.wordle1:type=Timer,name=" + t.getName()));
+            }
+            for (Counter c : COUNTERS) {
+                server.registerMBean(c, new ObjectName(
+                        "org.gameProject.wordle1:type=Counter,name=" + c.getName()));
+            }
+        } catch (JMException e) {
+            EventLog.error("Metrics.registerMBeans", e);
+        }
+    }
+
+    /**
+     * Returns every timer and counter as text, one per line (times in
+     * microseconds).
+     */
+    public static String dump() {
+        StringBuilder sb = new StringBuilder();
+        if (!ENABLED) {
+            return "Metrics are off (run with -Dwordle.metrics=true)\n";
+        }
+        sb.append(String.format("%-16s %10s %10s %10s %10s %10s%n",
+                "timer", "count", "mean us", "p50 us", "p99 us", "max us"));
+        for (Timer t : TIMERS) {
+            LatencyHistogram h = t.snapshot();
+            sb.append(String.format("%-16s %10d %10.1f %10.1f %10.1f %10.1f%n", t.getName(),
+                    h.getCount(), h.getMean() / 1e3, h.getPercentile(50) / 1e3,
+                    h.getPercentile(99) / 1e3, h.getMax() / 1e3));
+        }
+        for (Counter c : COUNTERS) {
+            sb.append(String.format("%-16s %10d%n", c.getName(), c.getCount()));
+        }
+        return sb.toString();
+    }
+
+    // the JMX view of a timer (times in nanoseconds)
+    public interface TimerMXBean {
+        long getCount();
+
+        double getMeanNanos();
+
+        long getP50Nanos();
+
+        long getP99Nanos();
+
+        long getMaxNanos();
+    }
+
+    // the JMX view of a counter
+    public interface CounterMXBean {
+        long getCount();
+    }
+
+    /**
+     * A latency histogram striped by thread. The stripes are only allocated when
+     * metrics are on.
+     */
+    public static final class Timer implements TimerMXBean {
+        private static final int STRIPES = Integer.highestOneBit(
+                Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1) * 2;
+
+        private final String name;
+        private final AtomicLongArray[] stripes; // bucket counts, see LatencyHistogram
+        private final LongAdder sum;
+        private final LongAccumulator max;
+
+        private Timer(String name) {
+            this.name = name;
+            if (ENABLED) {
+                stripes = new AtomicLongArray[STRIPES];
+                for (int i = 0; i < STRIPES; i++) {
+                    stripes[i] = new AtomicLongArray(LatencyHistogram.BUCKETS);
+                }
+                sum = new LongAdder();
+                max = new LongAccumulator(Math::max, 0);
+            } else {
+                stripes = null;
+                sum = null;
+                max = null;
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Records the time since start (from Metrics.start()).
+         */
+        public void stop(long start) {
+            if (ENABLED) {
+                record(System.nanoTime() - start);
+            }
+        }
+
+        // records a duration in nanoseconds
+        public void record(long nanos) {
+            if (ENABLED) {
+                int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+                stripes[stripe].incrementAndGet(LatencyHistogram.bucketOf(nanos));
+                sum.add(nanos);
+                max.accumulate(nanos);
+            }
+        }
+
+        /**
+         * Returns the stripes merged into one histogram (empty when metrics are off).
+         * Values recorded while this runs may or may not be included.
+         */
+        public LatencyHistogram snapshot() {
+            if (!ENABLED) {
+                return new LatencyHistogram();
+            }
+            long[] counts = new long[LatencyHistogram.BUCKETS];
+            for (AtomicLongArray stripe : stripes) {
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += stripe.get(i);
+                }
+            }
+            return LatencyHistogram.of(counts, sum.sum(), max.get());
+        }
+
+        @Override
+        public long getCount() {
+            return snapshot().getCount();
+        }
+
+        @Override
+        public double getMeanNanos() {
+            return snapshot().getMean();
+        }
+
+        @Override
+        public long getP50Nanos() {
+            return snapshot().getPercentile(50);
+        }
+
+        @Override
+        public long getP99Nanos() {
+            return snapshot().getPercentile(99);
+        }
+
+        @Override
+        public long getMaxNanos() {
+            return snapshot().getMax();
+        }
+    }
+
+    /**
+     * A count of events, kept in a LongAdder so threads don't contend on it.
+     */
+    public static final class Counter implements CounterMXBean {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void increment() {
+            if (ENABLED) {
+                count.increment();
+            }
+        }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.management.ObjectName;
+
+// the tests run with -Dwordle.metrics=true (see pom.xml)
+public class MetricsTest {
+    @Test
+    public void testModelIsInstrumented() throws Exception {
+        Assertions.assertTrue(Metrics.ENABLED);
+        long turns = Metrics.PLAY_TURN.getCount();
+        long invalid = Metrics.INVALID_GUESSES.getCount();
+        long won = Metrics.GAMES_WON.getCount();
+
+        Wordle1 w = new Wordle1();
+        w.setWordleWord("CRANE");
+        w.playTurn("qqqqq");
+        w.playTurn("spent");
+        w.playTurn("crane");
+        Assertions.assertEquals(turns + 3, Metrics.PLAY_TURN.getCount());
+        Assertions.assertEquals(invalid + 1, Metrics.INVALID_GUESSES.getCount());
+        Assertions.assertEquals(won + 1, Metrics.GAMES_WON.getCount());
+
+        ObjectName name = new ObjectName("org.gameProject.wordle1:type=Timer,name=playTurn");
+        Object count = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Count");
+        Assertions.assertTrue((Long) count >= turns + 3);
+        Assertions.assertTrue(Metrics.dump().contains("playTurn"));
+    }
+
+    @Test
+    public void testServerGamesAreInstrumented() {
+        long turns = Metrics.PLAY_TURN.getCount();
+        long resets = Metrics.RESET.getCount();
+        long invalid = Metrics.INVALID_GUESSES.getCount();
+        long won = Metrics.GAMES_WON.getCount();
+
+        int crane = WordDictionary.getInstance().indexOf("crane");
+        GameSession session = new GameSession("metrics", d -> crane);
+        session.guess("qqqqq");
+        session.guess("crane");
+        Assertions.assertEquals(turns + 2, Metrics.PLAY_TURN.getCount());
+        Assertions.assertEquals(resets + 1, Metrics.RESET.getCount());
+        Assertions.assertEquals(invalid + 1, Metrics.INVALID_GUESSES.getCount());
+        Assertions.assertEquals(won + 1, Metrics.GAMES_WON.getCount());
+    }
+
+    @Test
+    public void testStripesAreMerged() throws Exception {
+        Metrics.Timer t = Metrics.GET_COLORS;
+        long before = t.getCount();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(pool.submit(() -> {
+                for (int n = 1; n <= 1000; n++) {
+                    t.record(n * 1000L);
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+        LatencyHistogram h = t.snapshot();
+        Assertions.assertEquals(before + 4000, h.getCount());
+        Assertions.assertTrue(h.getMax() >= 1_000_000);
+    }
+}
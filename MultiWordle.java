@@ -0,0 +1,246 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * MultiWordle is the model for a "Quordle"-style game: every guess is played on
+ * K boards at once, each with its own hidden word, and the game is won when
+ * every board is solved. Like Quordle, the player gets K - 1 more guesses than
+ * a single board has (9 guesses for 4 boards in the classic mode).
+ *
+ * A guess is checked against the word bank once (by a Wordle1 of the same mode)
+ * and packed once, then scored against the packed targets of every board that
+ * isn't solved yet in one pass. The results go into an int array that is reused
+ * for every guess, so scoring doesn't create any objects. Solved boards
+ * are dropped from the pass, and when K is very large the pass is split across
+ * threads.
+ */
+public class MultiWordle {
+    // boards scored per guess before the pass is split across threads
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final GameMode mode;
+    private final WordDictionary dictionary;
+    private final Wordle1 validator; // checks guesses against the word bank
+    private final int maxGuesses;
+
+    private final long[] targets; // packed hidden word of each board
+    private final int[] patterns; // pattern of the last guess on each board, -1 if solved before it
+    private final int[] solvedAt; // number of the guess that solved each board, 0 if unsolved
+    private final int[] active; // boards that aren't solved, in order
+    private int activeCount;
+    private final int[] solvedOrder; // solved boards, in the order they were solved
+    private int lastSolvedFrom; // solvedOrder index of the first board the last guess solved
+
+    private final List<String> guesses = new ArrayList<>(); // accepted guesses, in uppercase
+    private int numGuesses;
+    private boolean gameOver;
+
+    /**
+     * Sets up a game with the given number of boards, using the mode's word bank.
+     */
+    public MultiWordle(GameMode mode, int boards) {
+        this(mode, boards, mode.getDictionary());
+    }
+
+    /**
+     * Sets up a game with the given number of boards and word bank.
+     */
+    public MultiWordle(GameMode mode, int boards, WordDictionary dictionary) {
+        if (boards < 1) {
+            throw new IllegalArgumentException("A game needs at least one board");
+        }
+        this.mode = mode;
+        this.dictionary = dictionary;
+        this.validator = new Wordle1(mode, dictionary);
+        this.maxGuesses = mode.getMaxGuesses() + boards - 1;
+        this.targets = new long[boards];
+        this.patterns = new int[boards];
+        this.solvedAt = new int[boards];
+        this.active = new int[boards];
+        this.solvedOrder = new int[boards];
+        reset();
+    }
+
+    /**
+     * Starts a new game. The boards get different words unless there are more
+     * boards than words in the word bank.
+     */
+    public void reset() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        int n = dictionary.size();
+        BitSet used = targets.length <= n ? new BitSet(n) : null;
+        for (int b = 0; b < targets.length; b++) {
+            int i = r.nextInt(n);
+            while (used != null && used.get(i)) {
+                i = r.nextInt(n);
+            }
+            if (used != null) {
+                used.set(i);
+            }
+            targets[b] = dictionary.longCodeAt(i);
+        }
+        restart();
+    }
+
+    // clears the guesses but keeps the targets
+    private void restart() {
+        Arrays.fill(patterns, -1);
+        Arrays.fill(solvedAt, 0);
+        for (int b = 0; b < active.length; b++) {
+            active[b] = b;
+        }
+        activeCount = active.length;
+        lastSolvedFrom = 0;
+        guesses.clear();
+        numGuesses = 0;
+        gameOver = false;
+    }
+
+    /**
+     * Sets the hidden word of every board (for tests and replays) and restarts
+     * the game.
+     */
+    public void setTargets(List<String> words) {
+        if (words.size() != targets.length) {
+            throw new IllegalArgumentException(
+                    "Need a word for each of the " + targets.length + " boards"
+            );
+        }
+        WordScorer scorer = mode.getScorer();
+        for (int b = 0; b < targets.length; b++) {
+            targets[b] = scorer.pack(words.get(b));
+        }
+        restart();
+    }
+
+    /**
+     * Plays a guess on every board that isn't solved. Returns true if the guess
+     * was accepted and false if the game is over or the guess isn't a word of the
+     * right length in the word bank (like Wordle1.playTurn).
+     */
+    public boolean playTurn(String s) {
+        String word = s.trim();
+        if (gameOver || !validator.isValidInput(word)) {
+            return false;
+        }
+        numGuesses++;
+        long guess = mode.getScorer().pack(word);
+        guesses.add(word.toUpperCase());
+        // boards solved by the last guess don't get this one
+        int solved = getSolvedCount();
+        for (int k = lastSolvedFrom; k < solved; k++) {
+            patterns[solvedOrder[k]] = -1;
+        }
+        lastSolvedFrom = solved;
+        if (activeCount >= PARALLEL_THRESHOLD) {
+            int chunk = PARALLEL_THRESHOLD / 4;
+            int count = activeCount;
+            IntStream.range(0, (count + chunk - 1) / chunk).parallel().forEach(
+                    c -> score(guess, c * chunk, Math.min(count, (c + 1) * chunk))
+            );
+        } else {
+            score(guess, 0, activeCount);
+        }
+        // move the boards this guess solved out of the active list
+        int kept = 0;
+        for (int k = 0; k < activeCount; k++) {
+            int b = active[k];
+            if (solvedAt[b] == 0) {
+                active[kept++] = b;
+            } else {
+                solvedOrder[solved++] = b;
+            }
+        }
+        activeCount = kept;
+        if (activeCount == 0 || numGuesses == maxGuesses) {
+            gameOver = true;
+        }
+        return true;
+    }
+
+    // scores a guess on the active boards from index from to index to
+    private void score(long guess, int from, int to) {
+        WordScorer scorer = mode.getScorer();
+        int allGreen = scorer.getAllGreen();
+        for (int k = from; k < to; k++) {
+            int b = active[k];
+            int pattern = scorer.score(guess, targets[b]);
+            patterns[b] = pattern;
+            if (pattern == allGreen) {
+                solvedAt[b] = numGuesses;
+            }
+        }
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public int getBoardCount() {
+        return targets.length;
+    }
+
+    public int getMaxGuesses() {
+        return maxGuesses;
+    }
+
+    public int getNumGuesses() {
+        return numGuesses;
+    }
+
+    public boolean getGameOver() {
+        return gameOver;
+    }
+
+    // true once every board is solved
+    public boolean getWonGame() {
+        return activeCount == 0;
+    }
+
+    public int getSolvedCount() {
+        return targets.length - activeCount;
+    }
+
+    public boolean isSolved(int board) {
+        return solvedAt[board] != 0;
+    }
+
+    // number of the guess that solved a board, or 0 if it isn't solved
+    public int getSolvedAt(int board) {
+        return solvedAt[board];
+    }
+
+    // the hidden word of a board, in uppercase
+    public String getTarget(int board) {
+        return mode.getScorer().unpack(targets[board]);
+    }
+
+    /**
+     * Returns the pattern id (see WordScorer) the last guess got on a board, or -1
+     * if the board was solved before the last guess (or nothing was guessed yet).
+     */
+    public int getLastPattern(int board) {
+        return patterns[board];
+    }
+
+    /**
+     * Returns the last guess's colors on a board like Wordle1.getColors (green: 1,
+     * yellow: 0, gray: -1), or an empty list if the board didn't get the guess.
+     */
+    public List<Integer> getColors(int board) {
+        int pattern = patterns[board];
+        return pattern < 0 ? List.of() : mode.getScorer().toColors(pattern);
+    }
+
+    // the accepted guesses, in uppercase
+    public List<String> getGuesses() {
+        return Collections.unmodifiableList(guesses);
+    }
+}
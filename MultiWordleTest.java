@@ -0,0 +1,75 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class MultiWordleTest {
+    @Test
+    public void testQuordleBoardsAreSolvedSeparately() {
+        MultiWordle m = new MultiWordle(GameMode.CLASSIC, 4);
+        m.setTargets(List.of("SPENT", "CRANE", "ARISE", "COUNT"));
+        Assertions.assertEquals(9, m.getMaxGuesses());
+
+        Assertions.assertFalse(m.playTurn("QQQQQ"));
+        Assertions.assertTrue(m.playTurn(" crane "));
+        Assertions.assertTrue(m.isSolved(1));
+        Assertions.assertEquals(1, m.getSolvedCount());
+        Wordle1 w = new Wordle1();
+        Assertions.assertEquals(w.getColors("crane", "SPENT"), m.getColors(0));
+        Assertions.assertEquals(FeedbackScorer.ALL_GREEN, m.getLastPattern(1));
+
+        Assertions.assertTrue(m.playTurn("spent"));
+        Assertions.assertEquals(-1, m.getLastPattern(1)); // solved before this guess
+        Assertions.assertEquals(List.of(), m.getColors(1));
+        Assertions.assertEquals(FeedbackScorer.score("SPENT", "COUNT"), m.getLastPattern(3));
+
+        m.playTurn("arise");
+        Assertions.assertFalse(m.getGameOver());
+        m.playTurn("count");
+        Assertions.assertTrue(m.getGameOver());
+        Assertions.assertTrue(m.getWonGame());
+        Assertions.assertEquals(4, m.getSolvedAt(3));
+        Assertions.assertEquals(List.of("CRANE", "SPENT", "ARISE", "COUNT"), m.getGuesses());
+        Assertions.assertFalse(m.playTurn("split"));
+    }
+
+    @Test
+    public void testRunsOutOfGuesses() {
+        MultiWordle m = new MultiWordle(GameMode.CLASSIC, 2);
+        m.setTargets(List.of("SPENT", "CRANE"));
+        for (int i = 0; i < m.getMaxGuesses(); i++) {
+            Assertions.assertTrue(m.playTurn("arise"));
+        }
+        Assertions.assertTrue(m.getGameOver());
+        Assertions.assertFalse(m.getWonGame());
+        Assertions.assertEquals(0, m.getSolvedCount());
+    }
+
+    @Test
+    public void testVeryManyBoards() {
+        // enough boards that the guess is scored in parallel
+        int boards = MultiWordle.PARALLEL_THRESHOLD * 3;
+        MultiWordle m = new MultiWordle(GameMode.CLASSIC, boards);
+        Assertions.assertTrue(m.playTurn("spent"));
+        int solved = 0;
+        for (int b = 0; b < boards; b++) {
+            int expected = FeedbackScorer.score("SPENT", m.getTarget(b));
+            Assertions.assertEquals(expected, m.getLastPattern(b));
+            if (expected == FeedbackScorer.ALL_GREEN) {
+                solved++;
+            }
+        }
+        Assertions.assertEquals(solved, m.getSolvedCount());
+        Assertions.assertTrue(m.playTurn("crane"));
+        for (int b = 0; b < boards; b++) {
+            if (m.getTarget(b).equals("SPENT")) {
+                Assertions.assertEquals(-1, m.getLastPattern(b));
+            } else {
+                int expected = FeedbackScorer.score("CRANE", m.getTarget(b));
+                Assertions.assertEquals(expected, m.getLastPattern(b));
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.gameProject.wordle1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a word list that was already packed by write(). The file is a 16 byte
+ * header (magic number, format version, word length, number of words) followed
+ * by the codes as little-endian ints (words of up to 6 letters) or longs. Loading
+ * maps the file and copies the codes in bulk, with no parsing at all.
+ */
+public class PackedBinaryWordSource implements WordSource {
+    public static final String EXTENSION = ".wpak";
+
+    private static final int MAGIC = 0x5750414B; // "WPAK"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private final Path path;
+
+    public PackedBinaryWordSource(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public PackedWordList load(int wordLength) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer b = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (b.remaining() < HEADER_BYTES || b.getInt() != MAGIC || b.getInt() != VERSION) {
+                throw new IOException("Not a packed word list: " + path);
+            }
+            int length = b.getInt();
+            int size = b.getInt();
+            if (length != wordLength) {
+                throw new IOException(
+                        path + " has " + length + "-letter words, not " + wordLength
+                );
+            }
+            // the header's word count must match the codes that follow it
+            long bytes = (long) size * (length <= PackedWordList.MAX_INT_LENGTH ? 4 : 8);
+            if (size < 0 || b.remaining() != bytes) {
+                throw new IOException(
+                        path + " should have " + size + " words but has "
+                                + b.remaining() + " bytes of codes"
+                );
+            }
+            if (length <= PackedWordList.MAX_INT_LENGTH) {
+                int[] codes = new int[size];
+                b.asIntBuffer().get(codes);
+                return new PackedWordList(length, codes, null, size, 0);
+            }
+            long[] codes = new long[size];
+            b.asLongBuffer().get(codes);
+            return new PackedWordList(length, null, codes, size, 0);
+        }
+    }
+
+    @Override
+    public String describe() {
+        return path.toString();
+    }
+
+    /**
+     * Saves a word list in the packed format.
+     */
+    public static void write(PackedWordList words, Path path) throws IOException {
+        boolean ints = words.isIntPacked();
+        int bytes = HEADER_BYTES + words.size() * (ints ? 4 : 8);
+        ByteBuffer b = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        b.putInt(MAGIC).putInt(VERSION).putInt(words.getWordLength()).putInt(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            if (ints) {
+                b.putInt(words.intCodeAt(i));
+            } else {
+                b.putLong(words.codeAt(i));
+            }
+        }
+        b.flip();
+        Path tmp = Files.createTempFile(path.toAbsolutePath().getParent(), "words", ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            while (b.hasRemaining()) {
+                ch.write(b);
+            }
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Packs a word list file. Usage: PackedBinaryWordSource input output.wpak [word length]
+     */
+    public static void main(String[] args) throws IOException {
+        int length = args.length > 2 ? Integer.parseInt(args[2]) : FeedbackScorer.WORD_LENGTH;
+        PackedWordList words = WordSource.forPath(Paths.get(args[0])).load(length);
+        write(words, Paths.get(args[1]));
+        System.out.println(
+                "Packed " + words.size() + " words (" + words.getSkippedLines()
+                        + " lines skipped)"
+        );
+    }
+}
@@ -0,0 +1,205 @@
+package org.gameProject.wordle1;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * PackedWordList is a word list stored as primitive codes instead of Strings:
+ * 5 bits per letter (A = 1 ... Z = 26), first letter in the lowest bits, the
+ * same packing FeedbackScorer uses. Words of up to 6 letters fit in an int and
+ * longer words (up to 12 letters) in a long, so a list only ever holds one of
+ * the two arrays.
+ *
+ * Lists are parsed straight from bytes, one word per line. Lines that aren't
+ * exactly wordLength ASCII letters (after trimming) are skipped and counted.
+ */
+public final class PackedWordList {
+    public static final int MAX_INT_LENGTH = 6;
+    public static final int MAX_LENGTH = 12;
+
+    private final int wordLength;
+    private final int size;
+    private final int[] intCodes; // used when wordLength <= MAX_INT_LENGTH
+    private final long[] longCodes; // used otherwise
+    private final int skippedLines;
+
+    PackedWordList(int wordLength, int[] intCodes, long[] longCodes, int size, int skippedLines) {
+        this.wordLength = wordLength;
+        this.intCodes = intCodes;
+        this.longCodes = longCodes;
+        this.size = size;
+        this.skippedLines = skippedLines;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // number of lines that weren't a valid word
+    public int getSkippedLines() {
+        return skippedLines;
+    }
+
+    // whether the codes are ints (intCodeAt) rather than longs
+    public boolean isIntPacked() {
+        return intCodes != null;
+    }
+
+    public int intCodeAt(int i) {
+        return intCodes[i];
+    }
+
+    public long codeAt(int i) {
+        return intCodes != null ? intCodes[i] : longCodes[i];
+    }
+
+    /**
+     * Packs s (ignoring surrounding white space and casing) without creating any
+     * objects.
+     *
+     * @return the code, or -1 if s isn't exactly length ASCII letters
+     */
+    public static long encode(CharSequence s, int length) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && Character.isWhitespace(s.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(s.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start != length) {
+            return -1;
+        }
+        long code = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = FeedbackScorer.letterCode(s.charAt(start + i));
+            if (letter == 0) {
+                return -1;
+            }
+            code |= (long) letter << (5 * i);
+        }
+        return code;
+    }
+
+    /**
+     * Turns a code back into a lowercase word.
+     */
+    public static String decode(long code, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('a' + ((code >>> (5 * i)) & 31) - 1);
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Packs words that are already in memory.
+     */
+    public static PackedWordList of(Collection<String> words, int wordLength) {
+        Builder b = new Builder(wordLength, words.size());
+        for (String w : words) {
+            b.add(encode(w, wordLength));
+        }
+        return b.build();
+    }
+
+    /**
+     * Parses a text word list (one word per line) from a stream. The stream is
+     * read in chunks and never turned into Strings.
+     */
+    public static PackedWordList parse(InputStream in, int wordLength) throws IOException {
+        Builder b = new Builder(wordLength, 1024);
+        byte[] buf = new byte[64 * 1024];
+        long code = 0;
+        int letters = 0;
+        boolean bad = false; // the current line has something other than letters
+        boolean trailingSpace = false; // white space was seen after the word started
+        int n;
+        while ((n = in.read(buf)) > 0) {
+            for (int i = 0; i < n; i++) {
+                int c = buf[i];
+                if (c == '\n') {
+                    b.add(bad || letters != wordLength ? (letters == 0 && !bad ? -2 : -1) : code);
+                    code = 0;
+                    letters = 0;
+                    bad = false;
+                    trailingSpace = false;
+                } else if (c == ' ' || c == '\t' || c == '\r') {
+                    trailingSpace = letters > 0;
+                } else {
+                    int letter = FeedbackScorer.letterCode((char) (c & 0xFF));
+                    if (letter == 0 || trailingSpace || letters >= wordLength) {
+                        bad = true;
+                    } else {
+                        code |= (long) letter << (5 * letters);
+                    }
+                    letters++;
+                }
+            }
+        }
+        if (letters > 0 || bad) {
+            b.add(bad || letters != wordLength ? -1 : code);
+        }
+        return b.build();
+    }
+
+    /**
+     * Collects codes into a growing primitive array. add(-1) counts a skipped
+     * line and add(-2) ignores a blank line.
+     */
+    static final class Builder {
+        private final int wordLength;
+        private int[] ints;
+        private long[] longs;
+        private int size;
+        private int skipped;
+
+        Builder(int wordLength, int capacity) {
+            if (wordLength < 1 || wordLength > MAX_LENGTH) {
+                throw new IllegalArgumentException("Unsupported word length: " + wordLength);
+            }
+            this.wordLength = wordLength;
+            capacity = Math.max(capacity, 16);
+            if (wordLength <= MAX_INT_LENGTH) {
+                ints = new int[capacity];
+            } else {
+                longs = new long[capacity];
+            }
+        }
+
+        void add(long code) {
+            if (code == -2) {
+                return;
+            }
+            if (code < 0) {
+                skipped++;
+                return;
+            }
+            if (ints != null) {
+                if (size == ints.length) {
+                    ints = Arrays.copyOf(ints, size * 2);
+                }
+                ints[size++] = (int) code;
+            } else {
+                if (size == longs.length) {
+                    longs = Arrays.copyOf(longs, size * 2);
+                }
+                longs[size++] = code;
+            }
+        }
+
+        PackedWordList build() {
+            return new PackedWordList(
+                    wordLength, ints == null ? null : Arrays.copyOf(ints, size),
+                    longs == null ? null : Arrays.copyOf(longs, size), size, skipped
+            );
+        }
+    }
+}
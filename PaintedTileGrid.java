@@ -0,0 +1,108 @@
+package org.gameProject.wordle1;
+
+import java.awt.*;
+import javax.swing.*;
+
+/**
+ * Tile grid that paints every tile itself in paintComponent instead of using a
+ * JLabel per tile. The tiles are just arrays of letters and colors, so updating
+ * them is cheap, and each batch asks for one repaint of the area that changed.
+ */
+@SuppressWarnings("serial")
+public class PaintedTileGrid extends JComponent implements TileGrid {
+    private final char[][] letters; // 0 for an empty tile
+    private final Color[][] colors;
+
+    public PaintedTileGrid(int rows, int cols) {
+        letters = new char[rows][cols];
+        colors = new Color[rows][cols];
+        setOpaque(true);
+        setFont(UIManager.getFont("Label.font"));
+        clearTiles();
+    }
+
+    @Override
+    public JComponent getComponent() {
+        return this;
+    }
+
+    @Override
+    public void setTile(int row, int col, String letter, Color color) {
+        letters[row][col] = letter.isEmpty() ? 0 : letter.charAt(0);
+        colors[row][col] = color;
+        repaint(tileBounds(row, col));
+    }
+
+    @Override
+    public void setRow(int row, String word, int pattern) {
+        fillRow(row, word, pattern);
+        repaint(tileBounds(row, 0).union(tileBounds(row, letters[row].length - 1)));
+    }
+
+    @Override
+    public void setBoard(GameSnapshot snap) {
+        clearTiles();
+        for (int i = 0; i < snap.getGuessCount() && i < letters.length; i++) {
+            fillRow(i, snap.getGuess(i), snap.getPattern(i));
+        }
+        repaint();
+    }
+
+    @Override
+    public void clear() {
+        clearTiles();
+        repaint();
+    }
+
+    private void fillRow(int row, String word, int pattern) {
+        for (int j = 0; j < letters[row].length; j++) {
+            letters[row][j] = j < word.length() ? word.charAt(j) : 0;
+            colors[row][j] = TileGrid.tileColor(pattern, j);
+        }
+    }
+
+    private void clearTiles() {
+        for (int i = 0; i < letters.length; i++) {
+            for (int j = 0; j < letters[i].length; j++) {
+                letters[i][j] = 0;
+                colors[i][j] = EMPTY;
+            }
+        }
+    }
+
+    // the tiles split the component evenly, like a GridLayout
+    private Rectangle tileBounds(int row, int col) {
+        int rows = letters.length;
+        int cols = letters[0].length;
+        int x0 = col * getWidth() / cols;
+        int x1 = (col + 1) * getWidth() / cols;
+        int y0 = row * getHeight() / rows;
+        int y1 = (row + 1) * getHeight() / rows;
+        return new Rectangle(x0, y0, x1 - x0, y1 - y0);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        FontMetrics fm = g.getFontMetrics(getFont());
+        g.setFont(getFont());
+        for (int i = 0; i < letters.length; i++) {
+            for (int j = 0; j < letters[i].length; j++) {
+                Rectangle r = tileBounds(i, j);
+                if (clip != null && !clip.intersects(r)) {
+                    continue;
+                }
+                g.setColor(colors[i][j]);
+                g.fillRect(r.x, r.y, r.width, r.height);
+                g.setColor(Color.BLACK);
+                g.drawRect(r.x, r.y, r.width - 1, r.height - 1);
+                if (letters[i][j] != 0) {
+                    String s = Character.toString(letters[i][j]);
+                    int x = r.x + (r.width - fm.stringWidth(s)) / 2;
+                    int y = r.y + (r.height - fm.getHeight()) / 2 + fm.getAscent();
+                    g.drawString(s, x, y);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Results of replaying saved games with JournalReplayer: how much was read, how
+ * many games there were and how they ended, and every problem found, with the
+ * first few of them spelled out.
+ *
+ * Each worker thread fills its own ReplayReport and the reports are merged at
+ * the end, so the counters are plain longs.
+ */
+public class ReplayReport {
+    public static final int MAX_EXAMPLES = 20;
+
+    /**
+     * What can be wrong with a saved game.
+     */
+    public enum Problem {
+        BROKEN_CHAIN("records that don't lead back to the start of their game"),
+        BAD_TARGET("targets that aren't in the word bank"),
+        INVALID_GUESS("guesses the game doesn't accept"),
+        WRONG_COLORS("guesses saved with the wrong colors"),
+        GUESS_AFTER_END("guesses after the game ended"),
+        WRONG_RESULT("results that don't match the guesses"),
+        WRONG_SNAPSHOT("snapshots that don't match the guesses");
+
+        private final String description;
+
+        Problem(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private long files;
+    private long skippedFiles; // files that aren't journals
+    private long segments; // journals (a file can be several journals one after another)
+    private long bytes;
+    private long corruptBytes; // torn or damaged records that were skipped
+    private long records;
+    private long games;
+    private long finished;
+    private long wins;
+    private long guesses;
+    private long badGames; // games with at least one problem
+    private final long[] problems = new long[Problem.values().length];
+    private final List<String> examples = new ArrayList<>();
+    private long elapsedNanos;
+
+    void addFile(long size) {
+        files++;
+        bytes += size;
+    }
+
+    void addSkippedFile(String name) {
+        skippedFiles++;
+        addExample(name + ": not a game journal");
+    }
+
+    void addSegment() {
+        segments++;
+    }
+
+    void addCorruptBytes(long n) {
+        corruptBytes += n;
+    }
+
+    void addRecord() {
+        records++;
+    }
+
+    /**
+     * Records one replayed game.
+     *
+     * @param problemFound whether any problem was recorded for it
+     */
+    void addGame(boolean done, boolean won, int numGuesses, boolean problemFound) {
+        games++;
+        guesses += numGuesses;
+        if (done) {
+            finished++;
+        }
+        if (won) {
+            wins++;
+        }
+        if (problemFound) {
+            badGames++;
+        }
+    }
+
+    // records a problem; where says which game it was in
+    void addProblem(Problem p, String where) {
+        problems[p.ordinal()]++;
+        addExample(where + ": " + p.getDescription());
+    }
+
+    private void addExample(String s) {
+        if (examples.size() < MAX_EXAMPLES) {
+            examples.add(s);
+        }
+    }
+
+    // adds the results of another batch to this one
+    public void merge(ReplayReport other) {
+        files += other.files;
+        skippedFiles += other.skippedFiles;
+        segments += other.segments;
+        bytes += other.bytes;
+        corruptBytes += other.corruptBytes;
+        records += other.records;
+        games += other.games;
+        finished += other.finished;
+        wins += other.wins;
+        guesses += other.guesses;
+        badGames += other.badGames;
+        for (int i = 0; i < problems.length; i++) {
+            problems[i] += other.problems[i];
+        }
+        for (String s : other.examples) {
+            addExample(s);
+        }
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getFiles() {
+        return files;
+    }
+
+    public long getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    public long getSegments() {
+        return segments;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getCorruptBytes() {
+        return corruptBytes;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    // games with a result record
+    public long getFinished() {
+        return finished;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getBadGames() {
+        return badGames;
+    }
+
+    public long getProblems(Problem p) {
+        return problems[p.ordinal()];
+    }
+
+    // the first MAX_EXAMPLES problems, e.g. "games.journal#1 game 7: guesses ..."
+    public List<String> getExamples() {
+        return examples;
+    }
+
+    // whether every game replayed cleanly and nothing had to be skipped
+    public boolean isClean() {
+        return badGames == 0 && corruptBytes == 0 && skippedFiles == 0;
+    }
+
+    public double getMegabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : bytes * 1e3 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Files: %d (%d skipped)   Journals: %d   Records: %d%n", files,
+                skippedFiles, segments, records));
+        sb.append(String.format("Read %.1f MB at %.0f MB/s, %d corrupt bytes skipped%n",
+                bytes / 1e6, getMegabytesPerSecond(), corruptBytes));
+        sb.append(String.format("Games: %d (%d finished, %d won, %d guesses)%n", games, finished,
+                wins, guesses));
+        sb.append(String.format("Games with problems: %d%n", badGames));
+        for (Problem p : Problem.values()) {
+            if (problems[p.ordinal()] > 0) {
+                sb.append(String.format("  %d %s%n", problems[p.ordinal()], p.getDescription()));
+            }
+        }
+        for (String s : examples) {
+            sb.append("  ").append(s).append('\n');
+        }
+        return sb.toString();
+    }
+}
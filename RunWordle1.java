@@ -28,14 +28,25 @@ public class RunWordle1 implements Runnable {
         final JLabel status = new JLabel("Setting up...");
         status_panel.add(status);
 
-        // Game board
-        final WordleGameBoard board = new WordleGameBoard(status);
+        // Game board, sized for the game mode; -Dwordle.boards=4 plays 4 boards at once
+        final int boards = Math.max(1, Integer.getInteger("wordle.boards", 1));
+        final WordleGameBoard board = new WordleGameBoard(
+                status, WordleGameBoard.DEFAULT_DATA_PATH, Boolean.getBoolean("wordle.paintedGrid"),
+                chooseMode(), boards
+        );
+        board.setHardMode(Boolean.getBoolean("wordle.hardMode"));
+        // -Dwordle.adversarial=true: the game dodges your guesses (one board only)
+        board.setAdversarial(boards == 1 && Boolean.getBoolean("wordle.adversarial"));
+        board.setTargetSelector(chooseTargets());
         frame.add(board, BorderLayout.CENTER);
 
+        // runs the model and file work off the Event Dispatch Thread
+        final GameController controller = new GameController(board);
+
         // Control Panel
-        // Instructions, TextBox, Enter, Reset, Load, Save (from left to right)
+        // Instructions, TextBox, Enter, Hint, Reset, Load, Save, Stats (from left to right)
         final JPanel control_panel = new JPanel();
-        control_panel.setLayout(new GridLayout(1, 5));
+        control_panel.setLayout(new GridLayout(1, 8));
 
         frame.add(control_panel, BorderLayout.NORTH);
 
@@ -44,9 +55,14 @@ public class RunWordle1 implements Runnable {
         instructions.setOpaque(true);
         final JTextField textbox = new JTextField("Input word here");
         final JButton enter = new JButton("Enter");
+        final JButton hint = new JButton("Hint");
         final JButton reset = new JButton("Reset");
         final JButton load = new JButton("Load Game");
         final JButton save = new JButton("Save Progress");
+        final JButton stats = new JButton("Stats");
+
+        // checks the guess and suggests words while it's typed
+        new GuessAssistant(board, textbox);
 
         instructions.addActionListener(e -> board.openInstructions(frame));
         control_panel.add(instructions);
@@ -54,7 +70,7 @@ public class RunWordle1 implements Runnable {
         textbox.addActionListener(e -> {
             String s;
             s = textbox.getText().trim();
-            board.setWordInBoard(s);
+            controller.guess(s);
             textbox.setText("");
         });
         control_panel.add(textbox);
@@ -62,26 +78,70 @@ public class RunWordle1 implements Runnable {
         enter.addActionListener(e -> {
             String s;
             s = textbox.getText().trim();
-            board.setWordInBoard(s);
+            controller.guess(s);
             textbox.setText("");
         });
         control_panel.add(enter);
 
-        reset.addActionListener(e -> board.reset());
+        hint.addActionListener(e -> controller.hint());
+        control_panel.add(hint);
+
+        reset.addActionListener(e -> controller.reset());
         control_panel.add(reset);
 
-        load.addActionListener(e -> board.load(frame));
+        load.addActionListener(e -> controller.load(frame));
         control_panel.add(load);
 
-        save.addActionListener(e -> board.save(frame));
+        save.addActionListener(e -> controller.save(frame));
         control_panel.add(save);
 
+        stats.addActionListener(e -> board.openStats(frame));
+        control_panel.add(stats);
+
+        // saves the statistics recorded since the last autosave when the game is closed
+        Runtime.getRuntime().addShutdownHook(new Thread(board::saveStatistics));
+
         // Put the frame on the screen
         frame.pack();
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.setVisible(true);
 
         // Start the game
-        board.reset();
+        controller.reset();
+    }
+
+    // how targets are picked, given by -Dwordle.targets (random, daily, seed:N or
+    // shuffle:N; see TargetSelector.parse)
+    private static TargetSelector chooseTargets() {
+        String s = System.getProperty("wordle.targets");
+        if (s == null) {
+            return TargetSelector.RANDOM;
+        }
+        try {
+            return TargetSelector.parse(s);
+        } catch (IllegalArgumentException e) {
+            EventLog.configError("wordle.targets", e.getMessage() + ", picking random words");
+            return TargetSelector.RANDOM;
+        }
+    }
+
+    // the mode given by -Dwordle.mode (e.g. 6x7 for 6 letters and 7 guesses), or
+    // the classic mode if there is none or there are no words for it
+    private static GameMode chooseMode() {
+        String s = System.getProperty("wordle.mode");
+        if (s == null) {
+            return GameMode.CLASSIC;
+        }
+        try {
+            GameMode mode = GameMode.parse(s);
+            if (!mode.getDictionary().isEmpty()) {
+                return mode;
+            }
+            EventLog.configError("wordle.mode",
+                    "No WordleWords" + mode.getWordLength() + ".txt word bank, playing classic");
+        } catch (IllegalArgumentException e) {
+            EventLog.configError("wordle.mode", e.getMessage() + ", playing classic");
+        }
+        return GameMode.CLASSIC;
     }
 }
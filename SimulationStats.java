@@ -0,0 +1,101 @@
+package org.gameProject.wordle1;
+
+/**
+ * Aggregate results of a batch of simulated games: win rate, how many guesses
+ * the wins took, and how fast the games were played.
+ *
+ * Each worker thread fills its own SimulationStats and the results are merged at
+ * the end, so the counters are plain longs.
+ */
+public class SimulationStats {
+    private long games;
+    private long wins;
+    private long invalidGuesses; // games stopped because the strategy guessed an invalid word
+    private final long[] histogram = new long[Wordle1.MAX_GUESSES + 1]; // wins by number of guesses
+    private long elapsedNanos;
+
+    /**
+     * Records one finished game.
+     *
+     * @param guesses number of guesses if the game was won, 0 if it was lost and
+     *                -1 if the strategy made an invalid guess
+     */
+    public void record(int guesses) {
+        games++;
+        if (guesses > 0) {
+            wins++;
+            histogram[guesses]++;
+        } else if (guesses < 0) {
+            invalidGuesses++;
+        }
+    }
+
+    // adds the results of another batch to this one
+    public void merge(SimulationStats other) {
+        games += other.games;
+        wins += other.wins;
+        invalidGuesses += other.invalidGuesses;
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return games - wins;
+    }
+
+    public long getInvalidGuesses() {
+        return invalidGuesses;
+    }
+
+    // number of games won in exactly n guesses
+    public long getWinsIn(int n) {
+        return histogram[n];
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    // average number of guesses over the games that were won
+    public double getAverageGuesses() {
+        long total = 0;
+        for (int i = 1; i < histogram.length; i++) {
+            total += i * histogram[i];
+        }
+        return wins == 0 ? 0 : (double) total / wins;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games played: %d%n", games));
+        sb.append(String.format("Win rate: %.2f%% (%d won, %d lost", 100 * getWinRate(), wins,
+                getLosses()));
+        if (invalidGuesses > 0) {
+            sb.append(String.format(", %d with invalid guesses", invalidGuesses));
+        }
+        sb.append(String.format(")%nAverage guesses (wins): %.3f%n", getAverageGuesses()));
+        for (int i = 1; i < histogram.length; i++) {
+            sb.append(String.format("  %d: %d%n", i, histogram[i]));
+        }
+        sb.append(String.format("Games per second: %.0f%n", getGamesPerSecond()));
+        return sb.toString();
+    }
+}
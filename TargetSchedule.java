@@ -0,0 +1,139 @@
+package org.gameProject.wordle1;
+
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.WeakHashMap;
+
+/**
+ * TargetSchedule is a fixed order of target words: a seeded shuffle of a word
+ * bank, computed once, so that the same seed always gives the same targets and no
+ * word repeats until every word has been used. Game number n (or day number n)
+ * gets word number n of the order, and after the last word the order starts
+ * over.
+ *
+ * The order is stored as word indexes in a char array when the word bank has up
+ * to 65536 words (an int array otherwise). A schedule never changes, so one can
+ * be shared by any number of threads: every caller gets the same word for the
+ * same day without talking to each other.
+ */
+public final class TargetSchedule {
+    // day number 0 of the daily schedule
+    public static final LocalDate FIRST_DAY = LocalDate.of(2021, 6, 19);
+    public static final long DEFAULT_SEED = 20210619L;
+
+    private final WeakReference<WordDictionary> source; // the word bank it was built for
+    private final int size;
+    private final char[] smallOrder; // used when size <= 65536
+    private final int[] order; // used otherwise
+
+    private TargetSchedule(WordDictionary d, long seed) {
+        int size = d.size();
+        if (size == 0) {
+            throw new IllegalArgumentException("The word bank is empty");
+        }
+        // Fisher-Yates shuffle of 0 .. size - 1
+        int[] shuffled = new int[size];
+        for (int i = 0; i < size; i++) {
+            shuffled[i] = i;
+        }
+        SplittableRandom r = new SplittableRandom(seed);
+        for (int i = size - 1; i > 0; i--) {
+            int j = r.nextInt(i + 1);
+            int t = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = t;
+        }
+        this.source = new WeakReference<>(d);
+        this.size = size;
+        if (size <= Character.MAX_VALUE + 1) {
+            smallOrder = new char[size];
+            for (int i = 0; i < size; i++) {
+                smallOrder[i] = (char) shuffled[i];
+            }
+            order = null;
+        } else {
+            smallOrder = null;
+            order = shuffled;
+        }
+    }
+
+    // the daily schedule of the shared word bank, built the first time it's used
+    private static final class Holder {
+        private static final TargetSchedule DAILY = of(WordDictionary.getInstance(), DEFAULT_SEED);
+    }
+
+    // schedules of each word bank by seed, built when first used
+    private static final Map<WordDictionary, Map<Long, TargetSchedule>> SCHEDULES =
+            new WeakHashMap<>();
+
+    /**
+     * Returns the schedule every game uses for the daily word: the shared word
+     * bank shuffled with DEFAULT_SEED.
+     */
+    public static TargetSchedule getDaily() {
+        return Holder.DAILY;
+    }
+
+    /**
+     * Returns the daily schedule of any word bank (the word bank shuffled with
+     * DEFAULT_SEED).
+     */
+    public static TargetSchedule getDaily(WordDictionary d) {
+        if (d == WordDictionary.getInstance()) {
+            return Holder.DAILY;
+        }
+        return get(d, DEFAULT_SEED);
+    }
+
+    /**
+     * Returns the schedule of a word bank for a seed, shuffling it the first
+     * time, so that every game with the same word bank and seed shares one.
+     */
+    public static TargetSchedule get(WordDictionary d, long seed) {
+        synchronized (SCHEDULES) {
+            return SCHEDULES.computeIfAbsent(d, k -> new HashMap<>())
+                    .computeIfAbsent(seed, k -> of(d, seed));
+        }
+    }
+
+    /**
+     * Shuffles a word bank with the given seed.
+     */
+    public static TargetSchedule of(WordDictionary d, long seed) {
+        return new TargetSchedule(d, seed);
+    }
+
+    // whether this is a shuffle of d itself (not just of a word bank of the same size)
+    boolean isFor(WordDictionary d) {
+        return source.get() == d;
+    }
+
+    // number of words in the schedule (it starts over after this many games)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index in the word bank of the target of game number game.
+     */
+    public int indexAt(long game) {
+        int i = (int) Math.floorMod(game, (long) size);
+        return smallOrder != null ? smallOrder[i] : order[i];
+    }
+
+    // number of days from FIRST_DAY to date
+    public static long dayNumber(LocalDate date) {
+        return ChronoUnit.DAYS.between(FIRST_DAY, date);
+    }
+
+    /**
+     * Returns the index in the word bank of the word for the given day.
+     */
+    public int indexForDay(LocalDate date) {
+        return indexAt(dayNumber(date));
+    }
+}
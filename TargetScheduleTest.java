@@ -0,0 +1,114 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class TargetScheduleTest {
+    @Test
+    public void testScheduleUsesEveryWordOnce() {
+        WordDictionary d = WordDictionary.getInstance();
+        TargetSchedule s = TargetSchedule.of(d, 42);
+        BitSet seen = new BitSet();
+        for (int game = 0; game < s.size(); game++) {
+            int i = s.indexAt(game);
+            Assertions.assertFalse(seen.get(i), "repeated word " + i);
+            seen.set(i);
+        }
+        Assertions.assertEquals(d.size(), seen.cardinality());
+        Assertions.assertEquals(s.indexAt(3), s.indexAt(3 + s.size())); // starts over
+        Assertions.assertEquals(s.indexAt(7), TargetSchedule.of(d, 42).indexAt(7));
+    }
+
+    @Test
+    public void testDailyWordIsTheSameForEveryGame() {
+        Instant noon = LocalDate.of(2026, 10, 18).atTime(12, 0).toInstant(ZoneOffset.UTC);
+        TargetSelector daily = TargetSelector.daily(
+                TargetSchedule.getDaily(), Clock.fixed(noon, ZoneOffset.UTC)
+        );
+        Wordle1 a = new Wordle1();
+        Wordle1 b = new Wordle1();
+        a.setTargetSelector(daily);
+        b.setTargetSelector(TargetSelector.daily(
+                TargetSchedule.getDaily(), Clock.fixed(noon.plusSeconds(3600), ZoneOffset.UTC)
+        ));
+        a.reset();
+        b.reset();
+        Assertions.assertEquals(a.getWordleWord(), b.getWordleWord());
+        int today = TargetSchedule.getDaily().indexForDay(LocalDate.of(2026, 10, 18));
+        String word = WordDictionary.getInstance().wordAt(today).toUpperCase();
+        Assertions.assertEquals(word, a.getWordleWord());
+        Assertions.assertNotEquals(
+                today, TargetSchedule.getDaily().indexForDay(LocalDate.of(2026, 10, 19))
+        );
+    }
+
+    @Test
+    public void testSeededTargetsRepeat() {
+        Wordle1 a = new Wordle1();
+        Wordle1 b = new Wordle1();
+        a.setTargetSelector(TargetSelector.parse("seed:99"));
+        b.setTargetSelector(TargetSelector.seeded(99));
+        for (int game = 0; game < 20; game++) {
+            a.reset();
+            b.reset();
+            Assertions.assertEquals(a.getWordleWord(), b.getWordleWord());
+        }
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> TargetSelector.parse("seed:x")
+        );
+    }
+
+    @Test
+    public void testSharedShuffleHasNoRepeats() throws InterruptedException {
+        WordDictionary d = WordDictionary.getInstance();
+        TargetSelector s = TargetSelector.shuffled(TargetSchedule.of(d, 5));
+        BitSet seen = new BitSet();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (int k = 0; k < d.size() / 4; k++) {
+                    int i = s.nextIndex(d);
+                    synchronized (seen) {
+                        Assertions.assertFalse(seen.get(i));
+                        seen.set(i);
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        Assertions.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(d.size() / 4 * 4, seen.cardinality());
+    }
+
+    @Test
+    public void testShuffleUsesTheGamesWordBank() {
+        List<String> words = List.of("planet", "silver", "garden", "bright", "window");
+        WordDictionary d = WordDictionary.of(words, 6);
+        Wordle1 w = new Wordle1(GameMode.of(6, 7), d);
+        w.setTargetSelector(TargetSelector.parse("shuffle:1"));
+        Set<String> targets = new HashSet<>();
+        for (int game = 0; game < words.size(); game++) {
+            w.reset();
+            targets.add(w.getWordleWord().toLowerCase());
+        }
+        Assertions.assertEquals(Set.copyOf(words), targets);
+        Assertions.assertSame(TargetSchedule.get(d, 1), TargetSchedule.get(d, 1));
+
+        // a schedule only fits the word bank it was made from, even one of the same size
+        WordDictionary same = WordDictionary.of(words, 6);
+        TargetSelector other = TargetSelector.shuffled(TargetSchedule.of(d, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> other.nextIndex(same));
+    }
+}
@@ -0,0 +1,110 @@
+package org.gameProject.wordle1;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A TargetSelector picks the target of each new game (Wordle1.reset) as an index
+ * into the word bank. The selectors here don't allocate when picking, and the
+ * ones made by seeded and shuffled count games with an AtomicLong, so a selector
+ * can be shared between threads.
+ */
+@FunctionalInterface
+public interface TargetSelector {
+    /**
+     * Returns the index in d of the target of the next game.
+     */
+    int nextIndex(WordDictionary d);
+
+    // a different random word every game (the default)
+    TargetSelector RANDOM = d -> ThreadLocalRandom.current().nextInt(d.size());
+
+    /**
+     * Random words in an order fixed by the seed: game n of two selectors with the
+     * same seed (and word bank) always has the same target. Words can repeat.
+     */
+    static TargetSelector seeded(long seed) {
+        AtomicLong games = new AtomicLong();
+        return d -> seededIndex(seed, games.getAndIncrement(), d.size());
+    }
+
+    /**
+     * Returns the target index of game number game for a seed (see seeded), without
+     * keeping any state.
+     */
+    static int seededIndex(long seed, long game, int size) {
+        // SplitMix64 of the game number
+        long z = seed + (game + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (int) ((z >>> 1) % size);
+    }
+
+    /**
+     * The words of a schedule in order, one per game, with no repeats until the
+     * schedule starts over.
+     */
+    static TargetSelector shuffled(TargetSchedule schedule) {
+        AtomicLong games = new AtomicLong();
+        return d -> checked(schedule, d).indexAt(games.getAndIncrement());
+    }
+
+    /**
+     * The words of whichever word bank the game uses, shuffled with the seed (see
+     * TargetSchedule.get), in order with no repeats until the schedule starts over.
+     */
+    static TargetSelector shuffled(long seed) {
+        AtomicLong games = new AtomicLong();
+        return d -> TargetSchedule.get(d, seed).indexAt(games.getAndIncrement());
+    }
+
+    /**
+     * Today's word of a schedule: every game started on the same day (by the
+     * clock) gets the same word.
+     */
+    static TargetSelector daily(TargetSchedule schedule, Clock clock) {
+        return d -> checked(schedule, d).indexForDay(LocalDate.now(clock));
+    }
+
+    /**
+     * Today's word of the daily schedule of whichever word bank the game uses
+     * (see TargetSchedule.getDaily), with days in UTC so that every server agrees
+     * on the date.
+     */
+    static TargetSelector daily() {
+        Clock clock = Clock.systemUTC();
+        return d -> TargetSchedule.getDaily(d).indexForDay(LocalDate.now(clock));
+    }
+
+    /**
+     * Parses a selector name: "random", "daily", "seed:N" (seeded with N) or
+     * "shuffle:N" (the game's word bank shuffled with N).
+     */
+    static TargetSelector parse(String s) {
+        String name = s.trim().toLowerCase();
+        try {
+            if (name.equals("random")) {
+                return RANDOM;
+            } else if (name.equals("daily")) {
+                return daily();
+            } else if (name.startsWith("seed:")) {
+                return seeded(Long.parseLong(name.substring(5)));
+            } else if (name.startsWith("shuffle:")) {
+                return shuffled(Long.parseLong(name.substring(8)));
+            }
+        } catch (NumberFormatException e) {
+            // falls through to the error below
+        }
+        throw new IllegalArgumentException("Invalid target selector: " + s);
+    }
+
+    private static TargetSchedule checked(TargetSchedule schedule, WordDictionary d) {
+        if (!schedule.isFor(d)) {
+            throw new IllegalArgumentException("The schedule is for a different word bank");
+        }
+        return schedule;
+    }
+}
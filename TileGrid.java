@@ -0,0 +1,50 @@
+package org.gameProject.wordle1;
+
+import java.awt.Color;
+import javax.swing.JComponent;
+
+/**
+ * TileGrid is the grid of letter tiles on the game board. A whole row (or the
+ * whole board) is updated as one batch, and the grid repaints once per batch
+ * instead of once per tile.
+ *
+ * LabelTileGrid draws the tiles with JLabels; PaintedTileGrid paints them itself.
+ */
+public interface TileGrid {
+    Color EMPTY = Color.WHITE;
+
+    // the component to add to the board
+    JComponent getComponent();
+
+    /**
+     * Sets a single tile to a letter and color.
+     */
+    void setTile(int row, int col, String letter, Color color);
+
+    /**
+     * Shows a guess in a row, colored by its pattern id (see FeedbackScorer).
+     */
+    void setRow(int row, String word, int pattern);
+
+    /**
+     * Clears the grid and shows every guess of a saved game.
+     */
+    void setBoard(GameSnapshot snap);
+
+    /**
+     * Clears every tile.
+     */
+    void clear();
+
+    // color of letter i of a pattern
+    static Color tileColor(int pattern, int i) {
+        switch (FeedbackScorer.digitAt(pattern, i)) {
+            case FeedbackScorer.GREEN:
+                return Color.GREEN;
+            case FeedbackScorer.YELLOW:
+                return Color.YELLOW;
+            default:
+                return Color.LIGHT_GRAY;
+        }
+    }
+}
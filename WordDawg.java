@@ -0,0 +1,399 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * WordDawg is an immutable, compact index of a word list: a DAWG (a trie in
+ * which identical subtrees are stored only once, so words that end the same way
+ * share their endings as well as their beginnings). Words can have any length up
+ * to MAX_LENGTH and any mix of lengths; letters are A to Z, ignoring case.
+ *
+ * The alphabet is fixed to the 26 ASCII letters the rest of the game packs
+ * words with (see FeedbackScorer), so a word with any other letter, such as
+ * an accented one, is skipped and counted (see getSkippedWords) rather than
+ * indexed.
+ *
+ * Each node is an int bitmask (bit 0: a word ends here, bit c: there is an edge
+ * for letter code c, A = 1 ... Z = 26) plus the position of its first edge in a
+ * shared int array of child nodes, in letter order. The child for a letter is
+ * found with one bitCount, so a lookup reads a few ints per letter and creates
+ * no objects. A word list takes a few bytes per word instead of the 40+ bytes
+ * of a String in a list.
+ *
+ * find walks the DAWG once for a WordQuery (a pattern like S?E?T with letters
+ * that must or must not appear), skipping every subtree whose letters or word
+ * lengths can't match.
+ */
+public final class WordDawg {
+    public static final int MAX_LENGTH = 31; // word lengths are kept in an int bitmask
+    private static final int CHECK_STEPS = 256; // a power of 2
+
+    private final int[] masks; // [node] -> bit 0 if a word ends here, bit c for letter edges
+    private final int[] firstEdge; // [node] -> index of its first child in edges
+    private final int[] lengths; // [node] -> bit k if a word ends k letters below it
+    private final int[] edges;
+    private final int root;
+    private final int size;
+    private final int skippedWords;
+
+    /**
+     * Called for every word a search finds. letters holds the word in uppercase
+     * (only the first length chars) and is reused for the next word.
+     *
+     * @return false to stop the search
+     */
+    public interface Visitor {
+        boolean visit(char[] letters, int length);
+    }
+
+    private WordDawg(int[] masks, int[] firstEdge, int[] lengths, int[] edges, int nodes,
+            int edgeCount, int root, int size, int skippedWords) {
+        this.masks = Arrays.copyOf(masks, nodes);
+        this.firstEdge = Arrays.copyOf(firstEdge, nodes);
+        this.lengths = Arrays.copyOf(lengths, nodes);
+        this.edges = Arrays.copyOf(edges, edgeCount);
+        this.root = root;
+        this.size = size;
+        this.skippedWords = skippedWords;
+    }
+
+    /**
+     * Indexes a word list. Words are trimmed; anything that isn't 1 to
+     * MAX_LENGTH letters from A to Z is skipped and counted, and duplicates
+     * are dropped.
+     */
+    public static WordDawg of(Collection<? extends CharSequence> words) {
+        List<byte[]> codes = new ArrayList<>(words.size());
+        int skipped = 0;
+        for (CharSequence w : words) {
+            byte[] word = toCodes(w);
+            if (word != null) {
+                codes.add(word);
+            } else {
+                skipped++;
+            }
+        }
+        return build(codes, skipped);
+    }
+
+    /**
+     * Indexes a word bank, straight from its packed words.
+     */
+    public static WordDawg of(WordDictionary d) {
+        int length = d.getWordLength();
+        List<byte[]> codes = new ArrayList<>(d.size());
+        for (int i = 0; i < d.size(); i++) {
+            long code = d.longCodeAt(i);
+            byte[] word = new byte[length];
+            for (int p = 0; p < length; p++) {
+                word[p] = (byte) ((code >>> (5 * p)) & 31);
+            }
+            codes.add(word);
+        }
+        return build(codes, 0); // the word bank already skipped the lines that aren't words
+    }
+
+    // letter codes of a trimmed word, or null if it isn't a word
+    private static byte[] toCodes(CharSequence s) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && Character.isWhitespace(s.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(s.charAt(end - 1))) {
+            end--;
+        }
+        if (end == start || end - start > MAX_LENGTH) {
+            return null;
+        }
+        byte[] word = new byte[end - start];
+        for (int i = 0; i < word.length; i++) {
+            int c = FeedbackScorer.letterCode(s.charAt(start + i));
+            if (c == 0) {
+                return null;
+            }
+            word[i] = (byte) c;
+        }
+        return word;
+    }
+
+    private static WordDawg build(List<byte[]> words, int skipped) {
+        words.sort(Arrays::compare);
+        // drop duplicates
+        int n = 0;
+        for (byte[] w : words) {
+            if (n == 0 || !Arrays.equals(words.get(n - 1), w)) {
+                words.set(n++, w);
+            }
+        }
+        Builder b = new Builder(words.subList(0, n));
+        int root = b.node(0, n, 0);
+        return new WordDawg(b.masks, b.firstEdge, b.lengths, b.edges, b.nodes, b.edgeCount,
+                root, n, skipped);
+    }
+
+    /**
+     * Builds the DAWG bottom-up from sorted words: the node for the words in
+     * [lo, hi) below depth is made from its children, and reused if an identical
+     * node (same mask, same children) was already made.
+     */
+    private static final class Builder {
+        private final List<byte[]> words;
+        private final Map<NodeKey, Integer> made = new HashMap<>();
+        int[] masks = new int[1024];
+        int[] firstEdge = new int[1024];
+        int[] lengths = new int[1024];
+        int[] edges = new int[1024];
+        int nodes;
+        int edgeCount;
+
+        Builder(List<byte[]> words) {
+            this.words = words;
+        }
+
+        int node(int lo, int hi, int depth) {
+            int mask = 0;
+            int[] key = new int[27]; // mask, then the children in letter order
+            int children = 0;
+            int i = lo;
+            if (i < hi && words.get(i).length == depth) {
+                mask |= 1; // sorted, so the word that ends here comes first
+                i++;
+            }
+            while (i < hi) {
+                int letter = words.get(i)[depth];
+                int j = i + 1;
+                while (j < hi && words.get(j)[depth] == letter) {
+                    j++;
+                }
+                mask |= 1 << letter;
+                key[1 + children++] = node(i, j, depth + 1);
+                i = j;
+            }
+            key[0] = mask;
+            NodeKey k = new NodeKey(Arrays.copyOf(key, 1 + children));
+            Integer existing = made.get(k);
+            if (existing != null) {
+                return existing;
+            }
+            if (nodes == masks.length) {
+                masks = Arrays.copyOf(masks, nodes * 2);
+                firstEdge = Arrays.copyOf(firstEdge, nodes * 2);
+                lengths = Arrays.copyOf(lengths, nodes * 2);
+            }
+            while (edgeCount + children > edges.length) {
+                edges = Arrays.copyOf(edges, edges.length * 2);
+            }
+            int below = mask & 1;
+            for (int c = 0; c < children; c++) {
+                edges[edgeCount + c] = key[1 + c];
+                below |= lengths[key[1 + c]] << 1;
+            }
+            masks[nodes] = mask;
+            firstEdge[nodes] = edgeCount;
+            lengths[nodes] = below;
+            edgeCount += children;
+            made.put(k, nodes);
+            return nodes++;
+        }
+    }
+
+    // a node's mask and children, compared by value
+    private static final class NodeKey {
+        private final int[] values;
+        private final int hash;
+
+        NodeKey(int[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof NodeKey && Arrays.equals(values, ((NodeKey) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // the child of node for a letter code, or -1 if there is none
+    private int child(int node, int letter) {
+        int mask = masks[node];
+        if ((mask & (1 << letter)) == 0) {
+            return -1;
+        }
+        return edges[firstEdge[node] + Integer.bitCount(mask & ((1 << letter) - 2))];
+    }
+
+    /**
+     * Determines if s (ignoring surrounding white space and casing) is a word in
+     * the index, without creating any objects.
+     */
+    public boolean contains(CharSequence s) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && Character.isWhitespace(s.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(s.charAt(end - 1))) {
+            end--;
+        }
+        int node = root;
+        for (int i = start; i < end && node >= 0; i++) {
+            int c = FeedbackScorer.letterCode(s.charAt(i));
+            node = c == 0 ? -1 : child(node, c);
+        }
+        return node >= 0 && end > start && (masks[node] & 1) != 0;
+    }
+
+    /**
+     * Determines if letters[offset ... offset + length) is a word in the index
+     * (ignoring casing).
+     */
+    public boolean contains(char[] letters, int offset, int length) {
+        int node = root;
+        for (int i = offset; i < offset + length && node >= 0; i++) {
+            int c = FeedbackScorer.letterCode(letters[i]);
+            node = c == 0 ? -1 : child(node, c);
+        }
+        return node >= 0 && length > 0 && (masks[node] & 1) != 0;
+    }
+
+    /**
+     * Calls the visitor for every word that matches the query, in alphabetical
+     * order, until it returns false.
+     *
+     * @return the number of words visited
+     */
+    public int find(WordQuery q, Visitor v) {
+        return find(q, v, () -> false);
+    }
+
+    /**
+     * Like find(q, v), but also stops once cancelled returns true, even while no
+     * word matches. cancelled is checked every few hundred nodes.
+     *
+     * @return the number of words visited
+     */
+    public int find(WordQuery q, Visitor v, BooleanSupplier cancelled) {
+        if (q.getLength() > MAX_LENGTH) {
+            return 0;
+        }
+        Search s = new Search(q, v, cancelled);
+        s.walk(root, 0);
+        return s.found;
+    }
+
+    /**
+     * Returns up to limit matching words (in uppercase), in alphabetical order.
+     */
+    public List<String> find(WordQuery q, int limit) {
+        List<String> words = new ArrayList<>();
+        if (limit > 0) {
+            find(q, (letters, length) -> {
+                words.add(new String(letters, 0, length));
+                return words.size() < limit;
+            });
+        }
+        return words;
+    }
+
+    // number of words that match the query
+    public int count(WordQuery q) {
+        return find(q, (letters, length) -> true);
+    }
+
+    // the state of one find: the letters so far and their counts
+    private final class Search {
+        private final WordQuery q;
+        private final Visitor v;
+        private final BooleanSupplier cancelled;
+        private final int length;
+        private final char[] letters;
+        private final int[] counts = new int[LetterIndex.LETTERS];
+        private int need; // letter copies the query still requires
+        private int found;
+        private int steps; // nodes walked, to check cancelled every CHECK_STEPS of them
+        private boolean stopped;
+
+        Search(WordQuery q, Visitor v, BooleanSupplier cancelled) {
+            this.q = q;
+            this.v = v;
+            this.cancelled = cancelled;
+            this.length = q.getLength();
+            this.letters = new char[length];
+            for (int c = 1; c < LetterIndex.LETTERS; c++) {
+                need += q.minCount(c);
+            }
+        }
+
+        void walk(int node, int depth) {
+            if ((++steps & (CHECK_STEPS - 1)) == 0 && cancelled.getAsBoolean()) {
+                stopped = true;
+                return;
+            }
+            if (depth == length) {
+                if ((masks[node] & 1) != 0 && need == 0) {
+                    found++;
+                    stopped = !v.visit(letters, length);
+                }
+                return;
+            }
+            // no word of the right length below, or not enough letters left
+            if ((lengths[node] & (1 << (length - depth))) == 0 || need > length - depth) {
+                return;
+            }
+            int options = masks[node] & q.allowedAt(depth) & ~1;
+            for (int m = options; m != 0 && !stopped; m &= m - 1) {
+                int c = Integer.numberOfTrailingZeros(m);
+                if (counts[c] == q.maxCount(c)) {
+                    continue;
+                }
+                boolean required = counts[c] < q.minCount(c);
+                counts[c]++;
+                if (required) {
+                    need--;
+                }
+                letters[depth] = (char) ('A' + c - 1);
+                walk(child(node, c), depth + 1);
+                counts[c]--;
+                if (required) {
+                    need++;
+                }
+            }
+        }
+    }
+
+    // number of words in the index
+    public int size() {
+        return size;
+    }
+
+    // number of words of() left out because they had letters other than A to Z,
+    // or no letters, or more than MAX_LENGTH
+    public int getSkippedWords() {
+        return skippedWords;
+    }
+
+    public int getNodeCount() {
+        return masks.length;
+    }
+
+    public int getEdgeCount() {
+        return edges.length;
+    }
+
+    // bytes used by the index's arrays
+    public long memoryBytes() {
+        return 4L * (3L * masks.length + edges.length);
+    }
+}
@@ -0,0 +1,86 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class WordDawgTest {
+    @Test
+    public void testMembershipMatchesTheWordBank() {
+        WordDictionary d = WordDictionary.getInstance();
+        WordDawg dawg = d.getIndex();
+        Assertions.assertEquals(d.size(), dawg.size());
+        for (int i = 0; i < d.size(); i++) {
+            Assertions.assertTrue(dawg.contains(d.wordAt(i)));
+        }
+        Assertions.assertTrue(dawg.contains(" CrAnE "));
+        Assertions.assertTrue(dawg.contains("xcranex".toCharArray(), 1, 5));
+        Assertions.assertFalse(dawg.contains("qqqqq"));
+        Assertions.assertFalse(dawg.contains("cran"));
+        Assertions.assertFalse(dawg.contains("cranes"));
+        Assertions.assertFalse(dawg.contains("cr4ne"));
+        Assertions.assertFalse(dawg.contains(""));
+        // shared endings make it smaller than a trie (at least one node per word)
+        Assertions.assertTrue(dawg.getNodeCount() < d.size());
+    }
+
+    @Test
+    public void testPatternQueryMatchesAScan() {
+        WordDictionary d = WordDictionary.getInstance();
+        WordQuery q = WordQuery.parse("S?E?T").without('a').with('n');
+        List<String> expected = new ArrayList<>();
+        for (String w : d.toList()) {
+            if (w.matches("s.e.t") && !w.contains("a") && w.contains("n")) {
+                expected.add(w.toUpperCase());
+            }
+        }
+        Assertions.assertEquals(expected, d.getIndex().find(q, 100));
+        Assertions.assertTrue(expected.contains("SPENT"));
+
+        // the possible answers after some feedback are the words ConstraintState allows
+        ConstraintState state = new ConstraintState(5);
+        state.update("crane", FeedbackScorer.score("crane", "spent"));
+        state.update("split", FeedbackScorer.score("split", "spent"));
+        int allowed = 0;
+        for (int i = 0; i < d.size(); i++) {
+            if (state.allows(d.longCodeAt(i))) {
+                allowed++;
+            }
+        }
+        Assertions.assertEquals(allowed, d.getIndex().count(WordQuery.of(state)));
+        Assertions.assertEquals(List.of("SPENT"), d.getIndex().find(WordQuery.of(state), 1));
+    }
+
+    @Test
+    public void testMixedLengths() {
+        WordDawg dawg = WordDawg.of(List.of("cat", "cats", "dog", "dogs", "do", "cat", "b4d"));
+        Assertions.assertEquals(5, dawg.size()); // the duplicate and b4d are dropped
+        Assertions.assertEquals(1, dawg.getSkippedWords()); // only b4d isn't a word
+        Assertions.assertTrue(dawg.contains("do"));
+        Assertions.assertFalse(dawg.contains("ca"));
+        Assertions.assertEquals(List.of("CATS", "DOGS"), dawg.find(new WordQuery(4), 10));
+        Assertions.assertEquals(List.of("CATS"), dawg.find(WordQuery.prefix("c", 4), 10));
+        Assertions.assertEquals(List.of("DO"), dawg.find(new WordQuery(2), 10));
+        Assertions.assertEquals(1, dawg.count(WordQuery.parse("???").without('c')));
+
+        // only A to Z: accented words are counted, not indexed
+        WordDawg accented = WordDawg.of(List.of("éclat", "Ñandú", "crane"));
+        Assertions.assertEquals(1, accented.size());
+        Assertions.assertEquals(2, accented.getSkippedWords());
+        Assertions.assertFalse(accented.contains("éclat"));
+    }
+
+    @Test
+    public void testCancelledSearchStops() {
+        WordDawg dawg = WordDictionary.getInstance().getIndex();
+        int[] checks = { 0 };
+        int found = dawg.find(new WordQuery(5), (letters, length) -> true, () -> ++checks[0] > 0);
+        Assertions.assertEquals(1, checks[0]);
+        Assertions.assertTrue(found < dawg.size(), "found " + found);
+        Assertions.assertEquals(
+                dawg.size(), dawg.find(new WordQuery(5), (l, n) -> true, () -> false)
+        );
+    }
+}
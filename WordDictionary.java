@@ -0,0 +1,241 @@
+package org.gameProject.wordle1;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * WordDictionary is the word bank shared by every Wordle1 instance. The word
+ * bank is read only once (the first time getInstance is called) and the words
+ * are stored packed into ints or longs (see PackedWordList), in an array (for
+ * picking a random target by index) and an open-addressing hash table of
+ * indexes (for checking if a guess is in the word bank). Words are only turned
+ * back into Strings when they are asked for.
+ *
+ * The shared dictionary has 5 letter words; forLength returns the word bank for
+ * other game modes.
+ *
+ * The dictionary is immutable once it is loaded, so it can be shared between
+ * threads without any locking.
+ */
+public final class WordDictionary {
+    // txt file with word bank
+    public static final Path WORDS_PATH = Paths
+            .get("src/main/java/org/gameProject/wordle1/WordleWords.txt");
+
+    private final PackedWordList words; // packed words, in file order
+    private final int[] slots; // hash table of index + 1 into words, 0 for an empty slot
+    private final int skippedLines;
+    private volatile WordDawg index; // built the first time getIndex is called
+
+    private WordDictionary(PackedWordList list) {
+        int n = list.size();
+        int capacity = Integer.highestOneBit(Math.max(n, 2) * 2) << 1;
+        // drop duplicates, using a table of positions in list
+        int[] table = new int[capacity];
+        PackedWordList.Builder unique = new PackedWordList.Builder(list.getWordLength(), n);
+        for (int i = 0; i < n; i++) {
+            int slot = find(table, list, list.codeAt(i));
+            if (table[slot] == 0) {
+                table[slot] = i + 1;
+                unique.add(list.codeAt(i));
+            }
+        }
+        this.words = unique.build();
+        // then index the words that are left
+        if (words.size() < n) {
+            table = new int[capacity];
+            for (int i = 0; i < words.size(); i++) {
+                table[find(table, words, words.codeAt(i))] = i + 1;
+            }
+        }
+        this.slots = table;
+        this.skippedLines = list.getSkippedLines();
+    }
+
+    // returns the slot holding code, or the empty slot where it would go
+    private static int find(int[] table, PackedWordList codes, long code) {
+        int mask = table.length - 1;
+        int h = (int) (code ^ code >>> 32) * 0x9E3779B9;
+        int slot = (h ^ h >>> 16) & mask;
+        while (table[slot] != 0 && codes.codeAt(table[slot] - 1) != code) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // lazy holder: the JVM guarantees the word bank is loaded once, on first use,
+    // and that every thread sees the fully built dictionary
+    private static final class Holder {
+        private static final WordDictionary INSTANCE = load(
+                defaultSource(FeedbackScorer.WORD_LENGTH), FeedbackScorer.WORD_LENGTH
+        );
+    }
+
+    // word banks for the other word lengths, loaded the first time they're used
+    private static final WordDictionary[] BY_LENGTH =
+            new WordDictionary[PackedWordList.MAX_LENGTH + 1];
+
+    // WORDS_PATH (WordleWords<length>.txt for other lengths), or the copy of the
+    // word bank packaged next to this class when the game isn't run from the
+    // project directory
+    private static WordSource defaultSource(int length) {
+        String name = length == FeedbackScorer.WORD_LENGTH
+                ? "WordleWords.txt" : "WordleWords" + length + ".txt";
+        Path path = WORDS_PATH.resolveSibling(name);
+        if (Files.exists(path)) {
+            return new FileWordSource(path);
+        }
+        return new ClasspathWordSource(WordDictionary.class, name);
+    }
+
+    /**
+     * Returns the shared dictionary, loading the word bank the first time this
+     * is called.
+     */
+    public static WordDictionary getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the word bank for words of the given length: the shared dictionary
+     * for 5 letters, otherwise WordleWords<length>.txt (next to WORDS_PATH or on
+     * the classpath). The dictionary is empty if there's no such file.
+     */
+    public static WordDictionary forLength(int length) {
+        if (length == FeedbackScorer.WORD_LENGTH) {
+            return getInstance();
+        }
+        synchronized (BY_LENGTH) {
+            if (BY_LENGTH[length] == null) {
+                BY_LENGTH[length] = load(defaultSource(length), length);
+            }
+            return BY_LENGTH[length];
+        }
+    }
+
+    /**
+     * Reads a word bank from the given file, which can be plain text, gzipped text
+     * (.gz) or pre-packed (.wpak). If the file can't be read, the dictionary is
+     * empty.
+     */
+    public static WordDictionary load(Path path) {
+        return load(WordSource.forPath(path), FeedbackScorer.WORD_LENGTH);
+    }
+
+    /**
+     * Reads the words of the given length from any source. If the source can't
+     * be read, the dictionary is empty.
+     */
+    public static WordDictionary load(WordSource source, int length) {
+        long start = Metrics.start();
+        try {
+            return new WordDictionary(source.load(length));
+        } catch (IOException e) {
+            Metrics.IO_ERRORS.increment();
+            EventLog.ioError("load word bank " + source.describe(), e);
+            return of(List.of(), length);
+        } finally {
+            Metrics.DICTIONARY_LOAD.stop(start);
+        }
+    }
+
+    /**
+     * Builds a dictionary of 5 letter words from words that are already in memory.
+     */
+    public static WordDictionary of(List<String> words) {
+        return of(words, FeedbackScorer.WORD_LENGTH);
+    }
+
+    /**
+     * Builds a dictionary of words of the given length from words that are
+     * already in memory. Words of other lengths are skipped.
+     */
+    public static WordDictionary of(List<String> words, int length) {
+        return new WordDictionary(PackedWordList.of(words, length));
+    }
+
+    public int getWordLength() {
+        return words.getWordLength();
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    public boolean isEmpty() {
+        return words.size() == 0;
+    }
+
+    // number of lines in the source that weren't a word of the right length
+    public int getSkippedLines() {
+        return skippedLines;
+    }
+
+    // determines if s (ignoring surrounding white space and casing) is in the word bank
+    public boolean contains(String s) {
+        return indexOf(s) >= 0;
+    }
+
+    // returns the position of s in the word bank, or -1 if it isn't there
+    public int indexOf(String s) {
+        long code = PackedWordList.encode(s, words.getWordLength());
+        return code < 0 ? -1 : indexOfCode(code);
+    }
+
+    // returns the position of a packed word in the word bank, or -1 if it isn't there
+    public int indexOfCode(long code) {
+        return slots[find(slots, words, code)] - 1;
+    }
+
+    // returns the (lowercase) word at position i
+    public String wordAt(int i) {
+        return PackedWordList.decode(words.codeAt(i), words.getWordLength());
+    }
+
+    // returns the packed form of the word at position i (words of up to 6 letters)
+    public int codeAt(int i) {
+        return words.intCodeAt(i);
+    }
+
+    // returns the packed form of the word at position i
+    public long longCodeAt(int i) {
+        return words.codeAt(i);
+    }
+
+    /**
+     * Returns a DAWG of the word bank for pattern and prefix queries (see
+     * WordQuery), building it the first time this is called.
+     */
+    public WordDawg getIndex() {
+        WordDawg i = index;
+        if (i == null) {
+            synchronized (this) {
+                i = index;
+                if (i == null) {
+                    i = WordDawg.of(this);
+                    index = i;
+                }
+            }
+        }
+        return i;
+    }
+
+    // returns a random word from the word bank
+    public String randomWord(Random r) {
+        return wordAt(r.nextInt(words.size()));
+    }
+
+    // returns a new copy of the word bank, so the dictionary itself can't be modified
+    public List<String> toList() {
+        List<String> list = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            list.add(wordAt(i));
+        }
+        return list;
+    }
+}
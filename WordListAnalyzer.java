@@ -0,0 +1,667 @@
+package org.gameProject.wordle1;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * WordListAnalyzer checks a word list before it becomes a word bank, and looks
+ * for the best openers. It reports
+ *   - duplicates, words of the wrong length and words that aren't all letters,
+ *   - how often each letter appears in each position,
+ *   - the best first guesses: the fewest words left on average after them (the
+ *     sum of the squared sizes of the buckets of words that give the same colors,
+ *     divided by the number of words), and the largest bucket they leave,
+ *   - the hardest targets: the words that give the same colors as the most other
+ *     words, averaged over every first guess,
+ *   - the best pairs of first guesses, scored the same way by the buckets of
+ *     both patterns together.
+ *
+ * Words are packed into longs (see WordScorer) and buckets are counted in int
+ * arrays indexed by pattern id, so scoring creates no objects. The searches run
+ * as fork/join tasks. The pair search is quadratic, so it only tries the best
+ * single openers as first words (with every word as the second), scores the
+ * targets in the order of the first word's largest buckets, and drops a pair as
+ * soon as its score can't beat the k-th best pair any task has found.
+ *
+ * Usage: WordListAnalyzer [file] [-length n] [-top k] [-pairs m]
+ * (m is the number of first words the pair search tries; 0 skips it)
+ */
+public final class WordListAnalyzer {
+    public static final int DEFAULT_TOP = 10;
+    public static final int DEFAULT_PAIR_FIRSTS = 50;
+    public static final int MAX_PAIR_LENGTH = 6; // pairs of patterns are counted in one array
+
+    private static final int MAX_EXAMPLES = 20; // problems listed per kind in the report
+    private static final int SPLIT = 64; // guesses per fork/join leaf
+    private static final int PAIR_SPLIT = 1024; // second words per fork/join leaf
+
+    private final int length;
+    private final WordScorer scorer;
+    private int lineNumber; // lines read
+    private int lines; // non-blank lines read
+    private final List<String> duplicates = new ArrayList<>();
+    private final List<String> wrongLength = new ArrayList<>();
+    private final List<String> notLetters = new ArrayList<>();
+    private int wrongLengthCount;
+    private int notLettersCount;
+    private long[] codes = new long[1024]; // the words, packed, in the order they were read
+    private int size;
+
+    // filled in by analyzeOpeners
+    private long[] squares; // [guess] -> sum of its squared bucket sizes
+    private int[] largest; // [guess] -> its largest bucket
+    private long[] sameColors; // [target] -> words with its colors, summed over all guesses
+
+    /**
+     * A first guess, or pair of first guesses, with the number of words left
+     * after it.
+     */
+    public static final class Opener {
+        private final String first;
+        private final String second;
+        private final double expected;
+        private final int worst;
+
+        Opener(String first, String second, double expected, int worst) {
+            this.first = first;
+            this.second = second;
+            this.expected = expected;
+            this.worst = worst;
+        }
+
+        public String getFirst() {
+            return first;
+        }
+
+        // null for a single opener
+        public String getSecond() {
+            return second;
+        }
+
+        // words left on average (every word equally likely to be the target)
+        public double getExpected() {
+            return expected;
+        }
+
+        // words left in the worst case
+        public int getWorst() {
+            return worst;
+        }
+
+        @Override
+        public String toString() {
+            return (second == null ? first : first + " " + second)
+                    + String.format(" %.2f (worst %d)", expected, worst);
+        }
+    }
+
+    private WordListAnalyzer(int length) {
+        this.length = length;
+        this.scorer = WordScorer.forLength(length);
+    }
+
+    /**
+     * Reads a word list (one word per line, gzipped if the name ends in .gz)
+     * line by line.
+     */
+    public static WordListAnalyzer read(Path path, int length) throws IOException {
+        WordListAnalyzer a = new WordListAnalyzer(length);
+        try (InputStream file = Files.newInputStream(path);
+                InputStream in = path.toString().endsWith(".gz")
+                        ? new GZIPInputStream(file) : file;
+                BufferedReader r = new BufferedReader(
+                        new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = r.readLine()) != null) {
+                a.add(line);
+            }
+        }
+        a.findDuplicates();
+        return a;
+    }
+
+    /**
+     * Analyzes the given lines as a word list.
+     */
+    public static WordListAnalyzer of(List<String> lines, int length) {
+        WordListAnalyzer a = new WordListAnalyzer(length);
+        for (String line : lines) {
+            a.add(line);
+        }
+        a.findDuplicates();
+        return a;
+    }
+
+    private void add(String line) {
+        lineNumber++;
+        String s = line.trim();
+        if (s.isEmpty()) {
+            return;
+        }
+        lines++;
+        for (int i = 0; i < s.length(); i++) {
+            if (FeedbackScorer.letterCode(s.charAt(i)) == 0) {
+                if (notLettersCount++ < MAX_EXAMPLES) {
+                    notLetters.add(lineNumber + ": " + s);
+                }
+                return;
+            }
+        }
+        if (s.length() != length) {
+            if (wrongLengthCount++ < MAX_EXAMPLES) {
+                wrongLength.add(lineNumber + ": " + s);
+            }
+            return;
+        }
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        codes[size++] = scorer.pack(s);
+    }
+
+    // drops repeated words (ignoring casing), keeping the first copy
+    private void findDuplicates() {
+        // open addressing: packed words are never 0, so 0 marks an empty slot
+        int slots = Integer.highestOneBit(Math.max(size, 1) * 2) * 2;
+        long[] table = new long[slots];
+        int[] copies = new int[slots];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            long code = codes[i];
+            int slot = (int) (code * 0x9E3779B97F4A7C15L >>> 40) & (slots - 1);
+            while (table[slot] != 0 && table[slot] != code) {
+                slot = (slot + 1) & (slots - 1);
+            }
+            table[slot] = code;
+            if (copies[slot]++ == 0) {
+                codes[n++] = code;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            long code = codes[i];
+            int slot = (int) (code * 0x9E3779B97F4A7C15L >>> 40) & (slots - 1);
+            while (table[slot] != code) {
+                slot = (slot + 1) & (slots - 1);
+            }
+            if (copies[slot] > 1) {
+                duplicates.add(scorer.unpack(code) + " x" + copies[slot]);
+            }
+        }
+        size = n;
+        codes = Arrays.copyOf(codes, n);
+    }
+
+    // number of distinct valid words
+    public int size() {
+        return size;
+    }
+
+    public List<String> getDuplicates() {
+        return duplicates;
+    }
+
+    // the first few lines with a word of the wrong length, as "line: word"
+    public List<String> getWrongLength() {
+        return wrongLength;
+    }
+
+    // the first few lines that aren't all letters, as "line: word"
+    public List<String> getNotLetters() {
+        return notLetters;
+    }
+
+    public String wordAt(int i) {
+        return scorer.unpack(codes[i]);
+    }
+
+    /**
+     * Counts each letter (code 1 to 26) in each position: [position][letter].
+     */
+    public int[][] getLetterCounts() {
+        int[][] counts = new int[length][LetterIndex.LETTERS];
+        for (int i = 0; i < size; i++) {
+            for (int p = 0; p < length; p++) {
+                counts[p][(int) (codes[i] >>> (5 * p)) & 31]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the k best first guesses, fewest words left on average first.
+     */
+    public List<Opener> bestOpeners(int k) {
+        analyzeOpeners();
+        List<Opener> best = new ArrayList<>();
+        for (int g : smallest(squares, k)) {
+            best.add(new Opener(wordAt(g), null, (double) squares[g] / size, largest[g]));
+        }
+        return best;
+    }
+
+    /**
+     * Returns the k hardest targets and the number of words that give the same
+     * colors as each of them, on average over every first guess.
+     */
+    public List<String> hardestTargets(int k) {
+        analyzeOpeners();
+        long[] negated = new long[size];
+        for (int t = 0; t < size; t++) {
+            negated[t] = -sameColors[t];
+        }
+        List<String> hardest = new ArrayList<>();
+        for (int t : smallest(negated, k)) {
+            hardest.add(String.format("%s %.2f", wordAt(t), (double) sameColors[t] / size));
+        }
+        return hardest;
+    }
+
+    private void analyzeOpeners() {
+        if (squares == null && size > 0) {
+            squares = new long[size];
+            largest = new int[size];
+            sameColors = ForkJoinPool.commonPool().invoke(new OpenerTask(0, size));
+        }
+    }
+
+    /**
+     * Scores the guesses in [lo, hi) against every target. Each guess's results go
+     * into squares and largest; the per-target sums are returned and added up
+     * when the tasks are joined.
+     */
+    private final class OpenerTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final int hi;
+
+        OpenerTask(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (hi - lo > SPLIT) {
+                int mid = (lo + hi) >>> 1;
+                OpenerTask left = new OpenerTask(lo, mid);
+                left.fork();
+                long[] sums = new OpenerTask(mid, hi).compute();
+                long[] other = left.join();
+                for (int t = 0; t < size; t++) {
+                    sums[t] += other[t];
+                }
+                return sums;
+            }
+            int[] counts = new int[scorer.getNumPatterns()];
+            int[] patterns = new int[size];
+            long[] sums = new long[size];
+            for (int g = lo; g < hi; g++) {
+                long guess = codes[g];
+                long sq = 0;
+                int worst = 0;
+                for (int t = 0; t < size; t++) {
+                    int p = scorer.score(guess, codes[t]);
+                    patterns[t] = p;
+                    int c = ++counts[p];
+                    sq += 2 * c - 1; // (c - 1)^2 grows to c^2
+                    worst = Math.max(worst, c);
+                }
+                for (int t = 0; t < size; t++) {
+                    sums[t] += counts[patterns[t]];
+                }
+                for (int t = 0; t < size; t++) {
+                    counts[patterns[t]] = 0;
+                }
+                squares[g] = sq;
+                largest[g] = worst;
+            }
+            return sums;
+        }
+    }
+
+    /**
+     * Returns the k best pairs of first guesses, fewest words left on average
+     * first. The first word of a pair is one of the firsts best single openers;
+     * the second is any word.
+     */
+    public List<Opener> bestPairs(int firsts, int k) {
+        if (length > MAX_PAIR_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Pairs can only be searched for words of up to " + MAX_PAIR_LENGTH
+                            + " letters");
+        }
+        analyzeOpeners();
+        if (size == 0 || k <= 0) {
+            return new ArrayList<>();
+        }
+        PairSearch search = new PairSearch(smallest(squares, Math.min(firsts, size)), k);
+        Pairs found = ForkJoinPool.commonPool().invoke(
+                search.new PairTask(0, search.firsts.length, 0, size)
+        );
+        List<Opener> best = new ArrayList<>();
+        for (int i = 0; i < found.count; i++) {
+            int a = found.first[i];
+            int b = found.second[i];
+            best.add(new Opener(wordAt(a), wordAt(b), (double) found.squares[i] / size,
+                    largestPairBucket(a, b)));
+        }
+        return best;
+    }
+
+    // the largest bucket of words that give the same colors to both a and b
+    private int largestPairBucket(int a, int b) {
+        int n = scorer.getNumPatterns();
+        int[] counts = new int[n * n];
+        int worst = 0;
+        for (int t = 0; t < size; t++) {
+            int key = scorer.score(codes[a], codes[t]) * n + scorer.score(codes[b], codes[t]);
+            worst = Math.max(worst, ++counts[key]);
+        }
+        return worst;
+    }
+
+    /**
+     * What every pair task shares: the first words, and for each of them the
+     * targets sorted by the size of their bucket (largest first) with their
+     * patterns, so a bad pair's score grows past the best ones quickly.
+     */
+    private final class PairSearch {
+        private final int[] firsts; // word indexes, best single opener first
+        private final int[] rank; // [word] -> its position in firsts, or -1
+        private final int[][] patterns; // [first][i] -> pattern of the i-th target
+        private final long[][] targets; // [first][i] -> the i-th target, packed
+        private final int k;
+        // no pair with at least this many squares can be among the k best: the
+        // k-th best of any task so far
+        private final AtomicLong bound = new AtomicLong(Long.MAX_VALUE);
+
+        PairSearch(int[] firsts, int k) {
+            this.firsts = firsts;
+            this.k = k;
+            rank = new int[size];
+            Arrays.fill(rank, -1);
+            patterns = new int[firsts.length][];
+            targets = new long[firsts.length][];
+            int numPatterns = scorer.getNumPatterns();
+            int[] counts = new int[numPatterns];
+            int[] start = new int[numPatterns];
+            int[] byPattern = new int[size];
+            for (int r = 0; r < firsts.length; r++) {
+                rank[firsts[r]] = r;
+                long a = codes[firsts[r]];
+                for (int t = 0; t < size; t++) {
+                    byPattern[t] = scorer.score(a, codes[t]);
+                    counts[byPattern[t]]++;
+                }
+                // buckets from largest to smallest: sort (size, pattern) keys
+                long[] order = new long[numPatterns];
+                int used = 0;
+                for (int p = 0; p < numPatterns; p++) {
+                    if (counts[p] > 0) {
+                        order[used++] = (long) (size - counts[p]) << 32 | p;
+                    }
+                }
+                Arrays.sort(order, 0, used);
+                int next = 0;
+                for (int i = 0; i < used; i++) {
+                    int p = (int) order[i];
+                    start[p] = next;
+                    next += counts[p];
+                    counts[p] = 0;
+                }
+                patterns[r] = new int[size];
+                targets[r] = new long[size];
+                for (int t = 0; t < size; t++) {
+                    int i = start[byPattern[t]]++;
+                    patterns[r][i] = byPattern[t];
+                    targets[r][i] = codes[t];
+                }
+            }
+        }
+
+        /**
+         * Scores the pairs (firsts[r], b) for r in [rLo, rHi) and b in [bLo, bHi),
+         * each pair once.
+         */
+        private final class PairTask extends RecursiveTask<Pairs> {
+            private static final long serialVersionUID = 1L;
+
+            private final int rLo;
+            private final int rHi;
+            private final int bLo;
+            private final int bHi;
+
+            PairTask(int rLo, int rHi, int bLo, int bHi) {
+                this.rLo = rLo;
+                this.rHi = rHi;
+                this.bLo = bLo;
+                this.bHi = bHi;
+            }
+
+            @Override
+            protected Pairs compute() {
+                if (rHi - rLo > 1 || bHi - bLo > PAIR_SPLIT) {
+                    PairTask left;
+                    PairTask right;
+                    if (rHi - rLo > 1) {
+                        int mid = (rLo + rHi) >>> 1;
+                        left = new PairTask(rLo, mid, bLo, bHi);
+                        right = new PairTask(mid, rHi, bLo, bHi);
+                    } else {
+                        int mid = (bLo + bHi) >>> 1;
+                        left = new PairTask(rLo, rHi, bLo, mid);
+                        right = new PairTask(rLo, rHi, mid, bHi);
+                    }
+                    // the better first words go first, so the bound drops sooner
+                    right.fork();
+                    Pairs found = left.compute();
+                    found.addAll(right.join());
+                    return found;
+                }
+                Pairs found = new Pairs(k);
+                int numPatterns = scorer.getNumPatterns();
+                int[] counts = new int[numPatterns * numPatterns];
+                int[] keys = new int[size];
+                int r = rLo;
+                int[] firstPatterns = patterns[r];
+                long[] sortedTargets = targets[r];
+                for (int b = bLo; b < bHi; b++) {
+                    // a pair of two first words is scored by the better one's task
+                    if (b == firsts[r] || (rank[b] >= 0 && rank[b] < r)) {
+                        continue;
+                    }
+                    long guess = codes[b];
+                    long limit = Math.min(found.limit(), bound.get());
+                    long sq = 0;
+                    int t = 0;
+                    while (t < size) {
+                        int key = firstPatterns[t] * numPatterns
+                                + scorer.score(guess, sortedTargets[t]);
+                        keys[t++] = key;
+                        sq += 2 * counts[key]++ + 1;
+                        // every target left adds at least 1
+                        if (sq + (size - t) >= limit) {
+                            break;
+                        }
+                    }
+                    boolean pruned = t < size || sq >= limit;
+                    for (int i = 0; i < t; i++) {
+                        counts[keys[i]] = 0;
+                    }
+                    if (!pruned) {
+                        found.add(sq, firsts[r], b);
+                        if (found.limit() < bound.get()) {
+                            bound.accumulateAndGet(found.limit(), Math::min);
+                        }
+                    }
+                }
+                return found;
+            }
+        }
+    }
+
+    // the best k pairs found so far, fewest squares first, in parallel arrays
+    private static final class Pairs {
+        private final long[] squares;
+        private final int[] first;
+        private final int[] second;
+        private int count;
+
+        Pairs(int k) {
+            squares = new long[k];
+            first = new int[k];
+            second = new int[k];
+        }
+
+        // a pair has to have fewer squares than this to be kept
+        long limit() {
+            return count < squares.length ? Long.MAX_VALUE : squares[count - 1];
+        }
+
+        void add(long sq, int a, int b) {
+            if (sq >= limit()) {
+                return;
+            }
+            int i = Math.min(count, squares.length - 1);
+            while (i > 0 && squares[i - 1] > sq) {
+                squares[i] = squares[i - 1];
+                first[i] = first[i - 1];
+                second[i] = second[i - 1];
+                i--;
+            }
+            squares[i] = sq;
+            first[i] = a;
+            second[i] = b;
+            count = Math.min(count + 1, squares.length);
+        }
+
+        void addAll(Pairs other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.squares[i], other.first[i], other.second[i]);
+            }
+        }
+    }
+
+    // indexes of the k smallest values, smallest first (ties by index)
+    private static int[] smallest(long[] values, int k) {
+        k = Math.min(k, values.length);
+        int[] best = new int[k];
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (count == k && (k == 0 || values[i] >= values[best[k - 1]])) {
+                continue;
+            }
+            int j = Math.min(count, k - 1);
+            while (j > 0 && values[best[j - 1]] > values[i]) {
+                best[j] = best[j - 1];
+                j--;
+            }
+            best[j] = i;
+            count = Math.min(count + 1, k);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the whole report as text.
+     *
+     * @param top    number of openers and targets to list
+     * @param firsts number of first words for the pair search, 0 to skip it
+     */
+    public String getReport(int top, int firsts) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Lines: %d   Words: %d%n", lines, size));
+        appendProblems(sb, "Duplicates", duplicates.size(), duplicates);
+        appendProblems(sb, "Not " + length + " letters", wrongLengthCount, wrongLength);
+        appendProblems(sb, "Not all letters", notLettersCount, notLetters);
+        if (size == 0) {
+            return sb.toString();
+        }
+
+        sb.append("\nLetters by position (% of words):\n    ");
+        for (int p = 0; p < length; p++) {
+            sb.append(String.format("%6d", p + 1));
+        }
+        sb.append('\n');
+        int[][] counts = getLetterCounts();
+        for (int c = 1; c < LetterIndex.LETTERS; c++) {
+            sb.append("  ").append((char) ('A' + c - 1)).append(' ');
+            for (int p = 0; p < length; p++) {
+                sb.append(String.format("%6.1f", 100.0 * counts[p][c] / size));
+            }
+            sb.append('\n');
+        }
+
+        long start = System.nanoTime();
+        sb.append("\nBest first guesses (words left on average):\n");
+        for (Opener o : bestOpeners(top)) {
+            sb.append("  ").append(o).append('\n');
+        }
+        sb.append("\nHardest targets (words with the same colors on average):\n");
+        for (String s : hardestTargets(top)) {
+            sb.append("  ").append(s).append('\n');
+        }
+        sb.append(String.format("(%.1fs)%n", (System.nanoTime() - start) / 1e9));
+
+        if (firsts > 0 && length <= MAX_PAIR_LENGTH) {
+            start = System.nanoTime();
+            sb.append(String.format("%nBest pairs of first guesses (first word from the best"
+                    + " %d):%n", Math.min(firsts, size)));
+            for (Opener o : bestPairs(firsts, top)) {
+                sb.append("  ").append(o).append('\n');
+            }
+            sb.append(String.format("(%.1fs)%n", (System.nanoTime() - start) / 1e9));
+        }
+        return sb.toString();
+    }
+
+    private static void appendProblems(StringBuilder sb, String title, int count,
+            List<String> examples) {
+        sb.append(String.format("%s: %d%n", title, count));
+        for (String s : examples) {
+            sb.append("  ").append(s).append('\n');
+        }
+        if (count > examples.size()) {
+            sb.append("  ...\n");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        // the game's word bank, or WordleWords.txt in the current directory
+        Path path = Files.exists(WordDictionary.WORDS_PATH)
+                ? WordDictionary.WORDS_PATH : Paths.get("WordleWords.txt");
+        int length = FeedbackScorer.WORD_LENGTH;
+        int top = DEFAULT_TOP;
+        int firsts = DEFAULT_PAIR_FIRSTS;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-length":
+                    length = Integer.parseInt(args[++i]);
+                    break;
+                case "-top":
+                    top = Integer.parseInt(args[++i]);
+                    break;
+                case "-pairs":
+                    firsts = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    path = Paths.get(args[i]);
+            }
+        }
+        System.out.print(read(path, length).getReport(top, firsts));
+    }
+}
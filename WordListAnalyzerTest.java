@@ -0,0 +1,74 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class WordListAnalyzerTest {
+    // words left on average after the given guesses, counted with a map
+    private static double expected(List<String> words, String... guesses) {
+        Map<String, Integer> buckets = new HashMap<>();
+        for (String target : words) {
+            StringBuilder key = new StringBuilder();
+            for (String g : guesses) {
+                key.append(FeedbackScorer.score(g, target)).append(',');
+            }
+            buckets.merge(key.toString(), 1, Integer::sum);
+        }
+        long squares = 0;
+        for (int n : buckets.values()) {
+            squares += (long) n * n;
+        }
+        return (double) squares / words.size();
+    }
+
+    @Test
+    public void testFindsProblemsInTheList() {
+        WordListAnalyzer a = WordListAnalyzer.of(
+                List.of("crane", "CRANE", " slate ", "", "cr4ne", "cranes", "crane", "pious"), 5
+        );
+        Assertions.assertEquals(3, a.size());
+        Assertions.assertEquals(List.of("CRANE x3"), a.getDuplicates());
+        Assertions.assertEquals(List.of("5: cr4ne"), a.getNotLetters());
+        Assertions.assertEquals(List.of("6: cranes"), a.getWrongLength());
+        int[][] counts = a.getLetterCounts();
+        Assertions.assertEquals(1, counts[1][FeedbackScorer.letterCode('R')]);
+        Assertions.assertEquals(2, counts[4][FeedbackScorer.letterCode('E')]);
+        Assertions.assertEquals(1, counts[4][FeedbackScorer.letterCode('S')]);
+    }
+
+    @Test
+    public void testOpenersMatchAnExhaustiveSearch() {
+        List<String> words = WordDictionary.getInstance().toList().subList(0, 120);
+        WordListAnalyzer a = WordListAnalyzer.of(words, 5);
+
+        // the best single opener, by brute force
+        double best = Double.MAX_VALUE;
+        for (String g : words) {
+            best = Math.min(best, expected(words, g));
+        }
+        WordListAnalyzer.Opener first = a.bestOpeners(3).get(0);
+        Assertions.assertEquals(best, first.getExpected(), 1e-9);
+        Assertions.assertEquals(best, expected(words, first.getFirst()), 1e-9);
+
+        // with every word as a first word the pair search is exhaustive, and its
+        // pruning mustn't lose the best pair
+        double bestPair = Double.MAX_VALUE;
+        for (int i = 0; i < words.size(); i++) {
+            for (int j = i + 1; j < words.size(); j++) {
+                bestPair = Math.min(bestPair, expected(words, words.get(i), words.get(j)));
+            }
+        }
+        List<WordListAnalyzer.Opener> pairs = a.bestPairs(words.size(), 5);
+        Assertions.assertEquals(5, pairs.size());
+        Assertions.assertEquals(bestPair, pairs.get(0).getExpected(), 1e-9);
+        for (WordListAnalyzer.Opener o : pairs) {
+            Assertions.assertEquals(expected(words, o.getFirst(), o.getSecond()),
+                    o.getExpected(), 1e-9);
+        }
+        Assertions.assertEquals(a.size(), a.hardestTargets(a.size()).size());
+    }
+}
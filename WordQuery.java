@@ -0,0 +1,157 @@
+package org.gameProject.wordle1;
+
+import java.util.Arrays;
+
+/**
+ * WordQuery describes the words a WordDawg search should find: a word length,
+ * the letters each position can be, and how many copies of each letter a word
+ * must (and may) have. Letters are kept as bitmasks of letter codes (A = 1 ...
+ * Z = 26), the same as ConstraintState, so the search can test a letter with
+ * one AND.
+ *
+ * Example: S?E?T with no A that must contain N is
+ *   WordQuery.parse("S?E?T").without('a').with('n')
+ */
+public final class WordQuery {
+    private static final int ALL_LETTERS = ((1 << LetterIndex.LETTERS) - 1) & ~1; // codes 1..26
+
+    private final int length;
+    private final int[] allowed; // [position] -> bit per letter code
+    private final int[] minCount = new int[LetterIndex.LETTERS];
+    private final int[] maxCount = new int[LetterIndex.LETTERS];
+
+    /**
+     * A query for every word of the given length.
+     */
+    public WordQuery(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("Invalid word length: " + length);
+        }
+        this.length = length;
+        this.allowed = new int[length];
+        Arrays.fill(allowed, ALL_LETTERS);
+        Arrays.fill(maxCount, length);
+    }
+
+    /**
+     * Parses a pattern like "S?E?T": one character per position, a letter for a
+     * fixed letter and '?', '.' or '_' for any letter. Casing doesn't matter.
+     */
+    public static WordQuery parse(String pattern) {
+        WordQuery q = new WordQuery(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c != '?' && c != '.' && c != '_') {
+                q.at(i, c);
+            }
+        }
+        return q;
+    }
+
+    /**
+     * Words of the given length that start with prefix.
+     */
+    public static WordQuery prefix(CharSequence prefix, int length) {
+        if (prefix.length() > length) {
+            throw new IllegalArgumentException("Prefix is longer than the words: " + prefix);
+        }
+        WordQuery q = new WordQuery(length);
+        for (int i = 0; i < prefix.length(); i++) {
+            q.at(i, prefix.charAt(i));
+        }
+        return q;
+    }
+
+    /**
+     * The words that fit all the feedback in a ConstraintState (the possible
+     * answers).
+     */
+    public static WordQuery of(ConstraintState state) {
+        WordQuery q = new WordQuery(state.getWordLength());
+        for (int i = 0; i < q.length; i++) {
+            q.allowed[i] = state.getAllowedMask(i);
+        }
+        for (int c = 1; c < LetterIndex.LETTERS; c++) {
+            q.minCount[c] = state.getMinCount(c);
+            q.maxCount[c] = state.getMaxCount(c);
+        }
+        return q;
+    }
+
+    /**
+     * Returns a copy of this query that only matches words starting with prefix
+     * (the rest of the query still applies).
+     */
+    public WordQuery startingWith(CharSequence prefix) {
+        if (prefix.length() > length) {
+            throw new IllegalArgumentException("Prefix is longer than the words: " + prefix);
+        }
+        WordQuery q = new WordQuery(length);
+        System.arraycopy(allowed, 0, q.allowed, 0, length);
+        System.arraycopy(minCount, 0, q.minCount, 0, minCount.length);
+        System.arraycopy(maxCount, 0, q.maxCount, 0, maxCount.length);
+        for (int i = 0; i < prefix.length(); i++) {
+            q.allowed[i] &= 1 << code(prefix.charAt(i));
+        }
+        return q;
+    }
+
+    private static int code(char letter) {
+        int c = FeedbackScorer.letterCode(letter);
+        if (c == 0) {
+            throw new IllegalArgumentException("Not a letter: " + letter);
+        }
+        return c;
+    }
+
+    // position i has to be the given letter
+    public WordQuery at(int i, char letter) {
+        allowed[i] = 1 << code(letter);
+        return this;
+    }
+
+    // position i can't be the given letter
+    public WordQuery notAt(int i, char letter) {
+        allowed[i] &= ~(1 << code(letter));
+        return this;
+    }
+
+    // words must have the letter somewhere
+    public WordQuery with(char letter) {
+        return withAtLeast(letter, 1);
+    }
+
+    // words must have at least n copies of the letter
+    public WordQuery withAtLeast(char letter, int n) {
+        int c = code(letter);
+        minCount[c] = Math.max(minCount[c], n);
+        return this;
+    }
+
+    // words can't have the letter anywhere
+    public WordQuery without(char letter) {
+        int c = code(letter);
+        maxCount[c] = 0;
+        for (int i = 0; i < length; i++) {
+            allowed[i] &= ~(1 << c);
+        }
+        return this;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    // bit per letter code that position i can be
+    int allowedAt(int i) {
+        return allowed[i];
+    }
+
+    int minCount(int letter) {
+        return minCount[letter];
+    }
+
+    int maxCount(int letter) {
+        return maxCount[letter];
+    }
+}
@@ -0,0 +1,168 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * WordScorer scores guesses for one word length. Words are packed into a long
+ * the same way FeedbackScorer packs 5 letter words into an int (5 bits per
+ * letter, first letter in the lowest bits), and pattern ids are base-3 numbers
+ * with one digit per letter, so a pattern for 5 letter words is exactly the
+ * pattern FeedbackScorer gives.
+ *
+ * Each length has its own scorer with masks built for that length, and
+ * compares all the letters of two words at once with bit tricks instead of
+ * looping over every pair of positions: one step finds every green letter, and
+ * each remaining letter takes one step to count its copies.
+ */
+public final class WordScorer {
+    public static final int MAX_LENGTH = PackedWordList.MAX_LENGTH;
+
+    private static final int[] POW3 = new int[MAX_LENGTH];
+    private static final WordScorer[] BY_LENGTH = new WordScorer[MAX_LENGTH + 1];
+
+    static {
+        POW3[0] = 1;
+        for (int i = 1; i < MAX_LENGTH; i++) {
+            POW3[i] = 3 * POW3[i - 1];
+        }
+        for (int n = 1; n <= MAX_LENGTH; n++) {
+            BY_LENGTH[n] = new WordScorer(n);
+        }
+    }
+
+    private final int length;
+    private final long low; // lowest bit of every letter
+    private final long high; // highest bit of every letter
+    private final long body; // the other 4 bits of every letter
+    private final int numPatterns;
+
+    private WordScorer(int length) {
+        this.length = length;
+        long l = 0;
+        for (int i = 0; i < length; i++) {
+            l |= 1L << (5 * i);
+        }
+        this.low = l;
+        this.high = l << 4;
+        this.body = l * 15;
+        this.numPatterns = 3 * POW3[length - 1];
+    }
+
+    /**
+     * Returns the scorer for words of the given length (1 to 12 letters).
+     */
+    public static WordScorer forLength(int length) {
+        if (length < 1 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Unsupported word length: " + length);
+        }
+        return BY_LENGTH[length];
+    }
+
+    public int getWordLength() {
+        return length;
+    }
+
+    public int getNumPatterns() {
+        return numPatterns;
+    }
+
+    public int getAllGreen() {
+        return numPatterns - 1;
+    }
+
+    /**
+     * Packs the first letters of s, ignoring surrounding white space and casing.
+     * Missing letters (and anything that isn't a letter) are packed as 0, like
+     * FeedbackScorer.pack.
+     */
+    public long pack(CharSequence s) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && Character.isWhitespace(s.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(s.charAt(end - 1))) {
+            end--;
+        }
+        long code = 0;
+        for (int i = 0; i < length && start + i < end; i++) {
+            code |= (long) FeedbackScorer.letterCode(s.charAt(start + i)) << (5 * i);
+        }
+        return code;
+    }
+
+    /**
+     * Turns a packed word back into an uppercase String.
+     */
+    public String unpack(long packed) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            int c = (int) (packed >>> (5 * i)) & 31;
+            letters[i] = c == 0 ? '?' : (char) ('A' + c - 1);
+        }
+        return new String(letters);
+    }
+
+    // the high bit of every letter of x that is 0
+    private long zeroLetters(long x) {
+        // adding 15 to the low 4 bits carries into the high bit unless they're all 0
+        long y = ((x & body) + body) | x;
+        return ~y & high;
+    }
+
+    // number of copies of a letter (code 1 to 26) in a packed word
+    int count(long word, int letter) {
+        return Long.bitCount(zeroLetters(word ^ letter * low));
+    }
+
+    /**
+     * Scores a packed guess against a packed answer. Duplicate letters are scored
+     * like FeedbackScorer.score.
+     *
+     * @return the pattern id (0 to getNumPatterns() - 1)
+     */
+    public int score(long guess, long target) {
+        long greens = zeroLetters(guess ^ target);
+        long open = high & ~greens; // letters that aren't green
+        int pattern = 0;
+        for (long g = greens; g != 0; g &= g - 1) {
+            pattern += FeedbackScorer.GREEN * POW3[Long.numberOfTrailingZeros(g) / 5];
+        }
+        for (long o = open; o != 0; o &= o - 1) {
+            long bit = o & -o;
+            int shift = Long.numberOfTrailingZeros(bit) - 4;
+            long spread = ((guess >>> shift) & 31) * low; // the letter in every position
+            // unmatched copies in the answer, and copies earlier in the guess that used them
+            int available = Long.bitCount(zeroLetters(target ^ spread) & open);
+            int used = Long.bitCount(zeroLetters(guess ^ spread) & open & (bit - 1));
+            if (used < available) {
+                pattern += FeedbackScorer.YELLOW * POW3[shift / 5];
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * Scores a guess against an answer, ignoring surrounding white space and casing.
+     */
+    public int score(CharSequence guess, CharSequence target) {
+        return score(pack(guess), pack(target));
+    }
+
+    /**
+     * Returns the pattern as a getColors list (green: 1, yellow: 0, gray: -1).
+     * The list can't be modified.
+     */
+    public List<Integer> toColors(int pattern) {
+        if (length == FeedbackScorer.WORD_LENGTH) {
+            return FeedbackScorer.toColors(pattern); // shared lists
+        }
+        List<Integer> colors = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            colors.add(FeedbackScorer.digitAt(pattern, i) - 1);
+        }
+        return Collections.unmodifiableList(colors);
+    }
+}
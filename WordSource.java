@@ -0,0 +1,35 @@
+package org.gameProject.wordle1;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A WordSource is somewhere a word bank can be loaded from: a text file, a
+ * resource on the classpath, a gzipped text file or a pre-packed binary file.
+ * Every source parses straight into a PackedWordList.
+ */
+public interface WordSource {
+    /**
+     * Reads the words of the given length.
+     */
+    PackedWordList load(int wordLength) throws IOException;
+
+    // a short description for error messages
+    String describe();
+
+    /**
+     * Picks a source for a file by its name: ".gz" files are gzipped text,
+     * ".wpak" files are pre-packed (see PackedBinaryWordSource) and anything else
+     * is plain text.
+     */
+    static WordSource forPath(Path path) {
+        String name = path.getFileName().toString();
+        if (name.endsWith(".gz")) {
+            return new GzipWordSource(path);
+        }
+        if (name.endsWith(PackedBinaryWordSource.EXTENSION)) {
+            return new PackedBinaryWordSource(path);
+        }
+        return new FileWordSource(path);
+    }
+}
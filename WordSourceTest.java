@@ -0,0 +1,90 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordSourceTest {
+    private static final String TEXT = "crane\r\n  Spent \n\nhello world\nllamas\ncrane\nÉclat\nabbey";
+
+    @Test
+    void testParseSkipsInvalidLines() throws IOException {
+        PackedWordList words = PackedWordList.parse(
+                new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)), 5
+        );
+        // the blank line is ignored, "hello world", "llamas" and "Éclat" are skipped
+        assertEquals(4, words.size()); // the list keeps the second "crane"
+        assertEquals(3, words.getSkippedLines());
+        assertEquals("spent", PackedWordList.decode(words.codeAt(1), 5));
+        assertEquals(FeedbackScorer.pack("abbey"), words.intCodeAt(3));
+    }
+
+    @Test
+    void testSourcesGiveTheSameDictionary(@TempDir Path dir) throws IOException {
+        Path text = dir.resolve("words.txt");
+        Files.write(text, TEXT.getBytes(StandardCharsets.UTF_8));
+        Path gz = dir.resolve("words.txt.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gz))) {
+            out.write(TEXT.getBytes(StandardCharsets.UTF_8));
+        }
+        Path pak = dir.resolve("words" + PackedBinaryWordSource.EXTENSION);
+        PackedBinaryWordSource.write(new FileWordSource(text).load(5), pak);
+
+        List<String> expected = List.of("crane", "spent", "abbey");
+        for (Path p : List.of(text, gz, pak)) {
+            WordDictionary d = WordDictionary.load(p);
+            assertEquals(expected, d.toList(), p.toString());
+            assertEquals(1, d.indexOf(" SPENT"));
+            assertFalse(d.contains("llama"));
+        }
+        assertTrue(WordSource.forPath(gz) instanceof GzipWordSource);
+        assertTrue(WordSource.forPath(pak) instanceof PackedBinaryWordSource);
+    }
+
+    @Test
+    void testLongWords(@TempDir Path dir) throws IOException {
+        Path text = dir.resolve("long.txt");
+        Files.write(text, List.of("wonderful", "abstracts", "short"));
+        PackedWordList words = new FileWordSource(text).load(9);
+        assertFalse(words.isIntPacked());
+        assertEquals(2, words.size());
+
+        Path pak = dir.resolve("long" + PackedBinaryWordSource.EXTENSION);
+        PackedBinaryWordSource.write(words, pak);
+        PackedWordList read = new PackedBinaryWordSource(pak).load(9);
+        assertEquals("abstracts", PackedWordList.decode(read.codeAt(1), 9));
+        assertThrows(IOException.class, () -> new PackedBinaryWordSource(pak).load(5));
+    }
+
+    @Test
+    void testDamagedPackedList(@TempDir Path dir) throws IOException {
+        Path text = dir.resolve("words.txt");
+        Files.write(text, TEXT.getBytes(StandardCharsets.UTF_8));
+        Path pak = dir.resolve("words" + PackedBinaryWordSource.EXTENSION);
+        PackedBinaryWordSource.write(new FileWordSource(text).load(5), pak);
+        byte[] good = Files.readAllBytes(pak);
+
+        // cut off in the middle of the codes
+        Files.write(pak, Arrays.copyOf(good, good.length - 3));
+        assertThrows(IOException.class, () -> new PackedBinaryWordSource(pak).load(5));
+        assertEquals(0, WordDictionary.load(pak).size()); // an empty dictionary, not a crash
+
+        // a negative word count
+        byte[] negative = good.clone();
+        Arrays.fill(negative, 12, 16, (byte) 0xFF);
+        Files.write(pak, negative);
+        assertThrows(IOException.class, () -> new PackedBinaryWordSource(pak).load(5));
+        assertEquals(0, WordDictionary.load(pak).size());
+    }
+}
@@ -1,15 +1,10 @@
 package org.gameProject.wordle1;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 
 public class Wordle1 {
+    public static final int MAX_GUESSES = 6;
+
     private int numGuesses;
 
     private String wordleWord;
@@ -18,13 +13,80 @@ public class Wordle1 {
 
     private boolean wonGame;
 
+    private boolean hardMode; // guesses have to fit all earlier feedback
+
+    private TargetSelector targetSelector = TargetSelector.RANDOM; // picks each new target
+
     /**
      * Constructor sets up game state.
      */
     public Wordle1() {
+        this(WordDictionary.getInstance());
+    }
+
+    /**
+     * Sets up a game that uses the given word bank instead of the shared one.
+     * The words' length decides the mode (with 6 guesses).
+     */
+    public Wordle1(WordDictionary dictionary) {
+        this(GameMode.of(dictionary.getWordLength(), MAX_GUESSES), dictionary);
+    }
+
+    /**
+     * Sets up a game in the given mode, using the mode's word bank.
+     */
+    public Wordle1(GameMode mode) {
+        this(mode, mode.getDictionary());
+    }
+
+    /**
+     * Sets up a game in the given mode with a word bank of the mode's word length.
+     */
+    public Wordle1(GameMode mode, WordDictionary dictionary) {
+        if (dictionary.getWordLength() != mode.getWordLength()) {
+            throw new IllegalArgumentException(
+                    "The word bank has " + dictionary.getWordLength() + "-letter words, not "
+                            + mode.getWordLength()
+            );
+        }
+        this.mode = mode;
+        this.dictionary = dictionary;
+        this.constraints = new ConstraintState(mode.getWordLength());
         reset();
     }
 
+    public GameMode getMode() {
+        return mode;
+    }
+
+    // the word bank targets and guesses come from
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    // in hard mode, playTurn rejects guesses that don't fit the feedback so far
+    public void setHardMode(boolean b) {
+        hardMode = b;
+    }
+
+    public TargetSelector getTargetSelector() {
+        return targetSelector;
+    }
+
+    // how the next games' targets are picked (takes effect at the next reset)
+    public void setTargetSelector(TargetSelector s) {
+        targetSelector = s;
+    }
+
+    // what the feedback so far says about the answer (kept up in both modes)
+    public ConstraintState getConstraints() {
+        return constraints;
+    }
+
     public int getNumGuesses() {
         return numGuesses;
     }
@@ -57,82 +119,62 @@ public class Wordle1 {
         gameOver = b;
     }
 
-    Path p = Paths.get("src/main/java/org/gameProject/wordle1/WordleWords.txt"); // txt file with word
-                                                                             // bank
+    private final GameMode mode; // word length and number of guesses
+    private final WordDictionary dictionary; // word bank (usually the shared one)
+    private final ConstraintState constraints; // feedback of the guesses so far
 
     // creates the ArrayList of valid words
     // Collections
     public List<String> getArrayOfWords() {
-        List<String> words = new ArrayList<>();
-        try {
-            words = Files.readAllLines(p);
-        } catch (IOException e) {
-            System.out.println("Invalid File Name");
-        }
-        return words;
+        return dictionary.toList();
     }
 
-    private List<String> words = getArrayOfWords();
-
     // determines if the guess (s) is in the word bank.
     private boolean isValidWord(String s) {
-        if (words.contains(s.trim().toLowerCase())) {
-            return true;
-        }
-        return false;
+        return dictionary.contains(s);
     }
 
-    // returns a random word from the word bank
+    // returns the next target from the word bank, in uppercase
     private String getChosenWord() {
-        List<String> words = new ArrayList<>();
-        try {
-            words = Files.readAllLines(p);
-        } catch (IOException e) {
-            System.out.println("Invalid File Name");
+        if (dictionary.isEmpty()) {
+            throw new IllegalStateException(
+                    "No " + mode.getWordLength() + "-letter words in the word bank"
+            );
         }
-        Random r = new Random();
-        int pos = r.nextInt(words.size());
-        String chosen = words.get(pos).trim().toUpperCase();
-        return chosen;
+        int i = targetSelector.nextIndex(dictionary);
+        return mode.getScorer().unpack(dictionary.longCodeAt(i));
     }
 
     // checks whether the guess (s) is valid
-    // valid if the length is 5 (excluding surrounding white spaces) and if it
-    // exists in the word bank
+    // valid if the length is the mode's word length (excluding surrounding white
+    // spaces) and if it exists in the word bank
     public boolean isValidInput(String s) {
-        if ((s.length() == 5) && (isValidWord(s))) {
-            return true;
-        }
-        return false;
+        long start = Metrics.start();
+        boolean valid = (s.length() == mode.getWordLength()) && (isValidWord(s));
+        Metrics.IS_VALID_INPUT.stop(start);
+        return valid;
     }
 
     // green: 1, yellow: 0, gray: -1
+    // the returned list can't be modified
     public List<Integer> getColors(String userWord, String wordleWord) {
-        String userInput = userWord.trim().toUpperCase();
-        String[] wordleWordArray = wordleWord.split("");
-        String[] userWordArray = userInput.split("");
-        List<String> chosenWordList = Arrays.asList(wordleWordArray);
-        List<String> userWordList = Arrays.asList(userWordArray);
-
-        List<Integer> colorings = new ArrayList<>();
-        for (int i = 0; i < 5; i++) {
-            if (chosenWordList.contains(userWordList.get(i))) {
-                if (chosenWordList.get(i).equals(userWordList.get(i))) {
-                    colorings.add(1);
-                } else {
-                    colorings.add(0);
-                }
-            } else {
-                colorings.add(-1);
-            }
-        }
-        return colorings;
+        long start = Metrics.start();
+        List<Integer> colors = mode.getScorer().toColors(getPattern(userWord, wordleWord));
+        Metrics.GET_COLORS.stop(start);
+        return colors;
+    }
+
+    // same as getColors, but returns the packed pattern id (see FeedbackScorer)
+    public int getPattern(String userWord, String wordleWord) {
+        return mode.getScorer().score(userWord, wordleWord);
     }
 
     /**
      * playTurn allows players to play a turn. Returns true if the word can be
      * successfully added to the board and false if the word is invalid. A word
-     * is invalid if its length is not 5 or the word is not in the given dictionary.
+     * is invalid if its length is not the mode's word length or the word is not in
+     * the given dictionary. In hard mode a word is also invalid if it doesn't fit
+     * the feedback of the earlier guesses (see ConstraintState).
      * 
      * @param s the user's guess
      * @return whether the turn was successful
@@ -140,19 +182,42 @@ public class Wordle1 {
 
     // true if word can be entered, false otherwise
     public boolean playTurn(String s) {
-        if (gameOver || !isValidInput(s.trim())) {
+        long start = Metrics.start();
+        boolean accepted = turn(s);
+        Metrics.PLAY_TURN.stop(start);
+        return accepted;
+    }
+
+    private boolean turn(String s) {
+        if (gameOver || !isValidInput(s.trim())
+                || (hardMode && !constraints.allows(s.trim()))) {
+            Metrics.INVALID_GUESSES.increment();
             return false;
         }
+        guessAccepted(s.trim());
+        int pattern = getPattern(s, wordleWord);
+        constraints.update(s.trim(), pattern);
         numGuesses++;
-        if (numGuesses == 6 || isCorrectWord(s.trim())) {
+        if (numGuesses == mode.getMaxGuesses() || isCorrectWord(s.trim())) {
             if (isCorrectWord(s)) {
                 wonGame = true;
+                Metrics.GAMES_WON.increment();
+            } else {
+                Metrics.GAMES_LOST.increment();
             }
             gameOver = true;
         }
         return true;
     }
 
+    /**
+     * Called by playTurn for a guess it has accepted, before the guess is scored
+     * against the target, so a subclass can still change the target (see
+     * AbsurdleWordle). Does nothing here.
+     */
+    protected void guessAccepted(String guess) {
+    }
+
     public boolean isCorrectWord(String s) {
         return s.trim().toUpperCase().equals(wordleWord);
     }
@@ -174,52 +239,32 @@ public class Wordle1 {
     }
 
     /**
-     * printGameState prints the current game state
-     * for debugging.
+     * printGameState plays a turn for debugging and describes what happened: the
+     * guess and its colors (or that it was rejected), and the result once the
+     * game is over.
      */
-    public void printGameState(String s) {
-        boolean result = playTurn(s);
-        if (result) {
-            List<Integer> colorings = getColors(s, wordleWord);
-            if (checkWinner(s)) {
-                System.out.println("You found the correct word: " + s);
-                System.out.println("Number of guesses taken: " + numGuesses);
-                System.out.println(colorings);
-                System.out.println();
-            } else {
-                System.out.println("You guessed: " + s);
-                System.out.println("Aw rip, better luck next guess.");
-                System.out.println("Number of guesses left: " + (6 - numGuesses));
-                System.out.println(colorings);
-                System.out.println();
-            }
-        } else {
-            if (!isValidInput(s)) {
-                System.out.println("You guessed: " + s);
-                System.out.println("Invalid word: Please input an actual 5-letter word");
-                System.out.println("Number of guesses left: " + (6 - numGuesses));
-                System.out.println();
-            } else {
-                if (wonGame) {
-                    System.out.println("You already won the game silly bozo");
-                } else {
-                    System.out.println(
-                            "Sadly, you did not find the correct word. The word was: " + wordleWord
-                    );
-                }
-            }
+    public String printGameState(String s) {
+        if (!playTurn(s)) {
+            return s + ": rejected";
         }
-
+        String text = s + ": " + getColors(s, wordleWord);
+        if (checkWinner(s)) {
+            return text + " You won in " + numGuesses + " guesses!";
+        }
+        return gameOver ? text + " Out of guesses! The word was " + wordleWord : text;
     }
 
     /**
      * reset (re-)sets the game state to start a new game.
      */
     public void reset() {
+        long start = Metrics.start();
         numGuesses = 0;
         gameOver = false;
-        wordleWord = getChosenWord().toUpperCase();
+        constraints.clear();
+        wordleWord = getChosenWord();
         wonGame = false;
+        Metrics.RESET.stop(start);
     }
 
     /**
@@ -230,23 +275,23 @@ public class Wordle1 {
      * This is modularity in action, and modularity is the bedrock of the
      * Model-View-Controller design framework.
      *
-     * Run this file to see the output of this method in your console.
+     * Run this file to see each turn printed.
      */
     public static void main(String[] args) {
         Wordle1 w = new Wordle1();
         w.setWordleWord("SPENT");
 
-        w.printGameState("ARISE");
+        System.out.println(w.printGameState("ARISE"));
 
-        w.printGameState("COUNT");
+        System.out.println(w.printGameState("COUNT"));
 
-        w.printGameState("CRANE");
+        System.out.println(w.printGameState("CRANE"));
 
-        w.printGameState("URMOM");
+        System.out.println(w.printGameState("URMOM"));
 
-        w.printGameState("SPLIT");
+        System.out.println(w.printGameState("SPLIT"));
 
-        w.printGameState("sPeNt");
+        System.out.println(w.printGameState("sPeNt"));
 
     }
 }
@@ -2,11 +2,11 @@ package org.gameProject.wordle1;
 
 import java.awt.*;
 import javax.swing.*;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,13 +30,41 @@ import java.util.List;
 public class WordleGameBoard extends JPanel {
 
     private Wordle1 w; // model for the game
+    private final GameMode mode; // word length and number of guesses
     private JLabel status; // current status text
+    private WordleSolver solver = new WordleSolver(); // remaining possible answers, for hints
+                                                      // (classic mode only)
 
     private List<String> inputtedWords = new ArrayList<>(); // stores list of previously inputted
                                                             // words in case the
     // user wishes to save the game's progress.
 
-    private JLabel[][] wordArray = new JLabel[6][5]; // 2D array
+    private final TileGrid grid; // one row per guess, one column per letter
+    private final MultiWordle multi; // model of a multi-board game, null for one board
+    private final TileGrid[] grids; // one grid per board of a multi-board game
+
+    // journal the games are saved to
+    public static final Path DEFAULT_DATA_PATH = Paths
+            .get("src/main/java/org/gameProject/wordle1/WordleGameData.journal");
+
+    private final Path dataPath;
+    private GameJournal journal; // opened the first time the game is saved or loaded
+    private long journalGameId = -1; // id of this game in the journal, -1 if never saved
+    private int journaledGuesses; // number of guesses already in the journal
+    private boolean journaledResult; // whether the result is already in the journal
+
+    // the player's statistics, kept next to the journal
+    public static final String STATS_FILE_NAME = "WordleStats.bin";
+    private final Path statsPath;
+    private final boolean statsSaved; // whether the statistics file can be written
+    private final GameStatistics stats;
+    private boolean recorded; // whether this game is already in the statistics
+    private long firstGuessNanos; // System.nanoTime() of the first guess of this game
+    private long lastGuessNanos; // System.nanoTime() of the last guess, 0 before the first
+
+    // the words that fit the colors so far (single board only), published for the
+    // suggestions in the text box, which are looked up on another thread
+    private volatile WordQuery possibleAnswers;
 
     // Game constants
     public static final int BOARD_WIDTH = 700;
@@ -46,6 +74,50 @@ public class WordleGameBoard extends JPanel {
      * Initializes the game board.
      */
     public WordleGameBoard(JLabel statusInit) {
+        this(statusInit, DEFAULT_DATA_PATH);
+    }
+
+    /**
+     * Initializes a game board that saves to and loads from the given journal file.
+     */
+    public WordleGameBoard(JLabel statusInit, Path dataPath) {
+        this(statusInit, dataPath, Boolean.getBoolean("wordle.paintedGrid"));
+    }
+
+    /**
+     * Initializes a classic game board. If paintedGrid is true the tiles are
+     * painted by a single component (PaintedTileGrid) instead of 30 JLabels.
+     */
+    public WordleGameBoard(JLabel statusInit, Path dataPath, boolean paintedGrid) {
+        this(statusInit, dataPath, paintedGrid, GameMode.CLASSIC);
+    }
+
+    /**
+     * Initializes a game board for the given mode. The grid has a row for each
+     * guess and a column for each letter.
+     */
+    public WordleGameBoard(JLabel statusInit, Path dataPath, boolean paintedGrid, GameMode mode) {
+        this(statusInit, dataPath, paintedGrid, mode, 1);
+    }
+
+    /**
+     * Initializes a game board for the given mode with the given number of boards
+     * side by side ("Quordle" when there are 4). Every guess is played on each
+     * board that isn't solved yet. Boards with more than 4 grids always use
+     * PaintedTileGrid.
+     */
+    public WordleGameBoard(
+            JLabel statusInit, Path dataPath, boolean paintedGrid, GameMode mode, int boards
+    ) {
+        this.dataPath = dataPath;
+        this.mode = mode;
+        this.statsPath = dataPath.resolveSibling(STATS_FILE_NAME);
+        this.stats = GameStatistics.loadOrCreate(statsPath);
+        // the statistics are only kept in memory if there's nowhere to save them
+        this.statsSaved = Files.isDirectory(statsPath.toAbsolutePath().getParent());
+        if (statsSaved) {
+            stats.startAutoSave(statsPath, Duration.ofSeconds(30));
+        }
         // creates border around the court area, JComponent method
         setBorder(BorderFactory.createLineBorder(Color.BLACK));
 
@@ -53,30 +125,40 @@ public class WordleGameBoard extends JPanel {
         // keyboard focus, key events are handled by its key listener.
         setFocusable(true);
 
-        w = new Wordle1(); // initializes model for the game
+        w = new Wordle1(mode); // initializes model for the game
         status = statusInit; // initializes the status JLabel
 
         this.setLayout(new BorderLayout());
-        this.setLayout(new GridLayout(6, 5));
-        for (int i = 0; i < 6; i++) {
-            for (int j = 0; j < 5; j++) {
-                wordArray[i][j] = new JLabel(); // creates new JLabel for each coordinate in the
-                                                // grid
-                wordArray[i][j].setOpaque(true);
-                wordArray[i][j].setBorder(BorderFactory.createLineBorder(Color.BLACK));
-                this.add(wordArray[i][j]);
+        int cols = mode.getWordLength();
+        if (boards == 1) {
+            multi = null;
+            int rows = mode.getMaxGuesses();
+            grid = paintedGrid ? new PaintedTileGrid(rows, cols) : new LabelTileGrid(rows, cols);
+            grids = new TileGrid[] { grid };
+            this.add(grid.getComponent(), BorderLayout.CENTER);
+        } else {
+            multi = new MultiWordle(mode, boards);
+            int rows = multi.getMaxGuesses();
+            boolean painted = paintedGrid || boards > 4;
+            // up to 4 boards in a row, more as a square-ish grid of boards
+            int across = boards <= 4 ? boards : (int) Math.ceil(Math.sqrt(boards));
+            JPanel panel = new JPanel(new GridLayout(0, across, 4, 4));
+            grids = new TileGrid[boards];
+            for (int b = 0; b < boards; b++) {
+                grids[b] = painted
+                        ? new PaintedTileGrid(rows, cols) : new LabelTileGrid(rows, cols);
+                panel.add(grids[b].getComponent());
             }
+            grid = grids[0];
+            this.add(panel, BorderLayout.CENTER);
         }
+        possibleAnswers = multi == null ? new WordQuery(mode.getWordLength()) : null;
     }
 
-    // helper method that sets a JLabel at a specific coordinate in the grid to a
+    // helper method that sets a tile at a specific coordinate in the grid to a
     // certain character/color
     public void setPanel(String character, int row, int col, Color c) {
-        JLabel l = this.wordArray[row][col];
-        l.setHorizontalAlignment(SwingConstants.CENTER);
-        l.setVerticalAlignment(SwingConstants.CENTER);
-        l.setText(character);
-        l.setBackground(c);
+        grid.setTile(row, col, character, c);
     }
 
     // will take in the list from the getColors method in wordle1.java and convert
@@ -85,7 +167,7 @@ public class WordleGameBoard extends JPanel {
     // corresponding rows.
     public List<Color> getActualColors(List<Integer> l) {
         List<Color> res = new ArrayList<>();
-        for (int i = 0; i < 5; i++) {
+        for (int i = 0; i < l.size(); i++) {
             if (l.get(i) == 1) {
                 res.add(Color.GREEN);
             } else if (l.get(i) == 0) {
@@ -100,165 +182,500 @@ public class WordleGameBoard extends JPanel {
     // method for inputting the user's valid guess into the board, along with proper
     // colorings
     public void setWordInBoard(String s) {
+        playGuess(s).run();
+    }
+
+    /*
+     * The methods below that return a Runnable split each action in two: the
+     * model/file work happens when the method is called, and the returned
+     * Runnable updates the view. GameController calls them on a background
+     * thread (one at a time) and runs the view updates on the Event Dispatch
+     * Thread; the public methods above just do both right away.
+     */
+
+    // plays a guess in the model
+    Runnable playGuess(String s) {
+        if (multi != null) {
+            return playMultiGuess(s);
+        }
         boolean b = w.playTurn(s);
         if (b) {
-            List<Integer> intColorings = w.getColors(s, w.getWordleWord());
-            List<Color> colorings = getActualColors(intColorings);
-            for (int i = 0; i < 5; i++) {
-                setPanel(
-                        Character.toString(s.charAt(i)).toUpperCase(), w.getNumGuesses() - 1, i,
-                        colorings.get(i)
-                );
+            int pattern = w.getPattern(s, w.getWordleWord());
+            EventLog.guess(s, w.getWordleWord(), pattern);
+            if (w.getGameOver()) {
+                EventLog.result(w.getWordleWord(), w.getWonGame(), w.getNumGuesses());
+            }
+            if (isClassic()) {
+                solver.apply(s, pattern);
             }
+            String guess = s.trim().toUpperCase();
+            inputtedWords.add(guess);
+            recordGuess();
+            possibleAnswers = WordQuery.of(w.getConstraints());
+            int row = w.getNumGuesses() - 1;
+            String text = statusText(s, true);
+            return () -> {
+                grid.setRow(row, guess, pattern); // one repaint for the row
+                status.setText(text);
+            };
+        }
+        EventLog.invalidInput(s, w.getNumGuesses());
+        String text = statusText(s, false);
+        return () -> status.setText(text);
+    }
+
+    // adds the time of a guess and, once the game is over, the game to the statistics
+    private void recordGuess() {
+        if (isAdversarial()) {
+            return; // Absurdle games would skew the guess counts and win rate of normal games
+        }
+        long now = System.nanoTime();
+        if (lastGuessNanos == 0) {
+            firstGuessNanos = now;
+        } else {
+            stats.recordGuessTime(now - lastGuessNanos);
+        }
+        lastGuessNanos = now;
+        if (w.getGameOver() && !recorded) {
+            stats.recordGame(w.getWordleWord(), inputtedWords, w.getWonGame(),
+                    now - firstGuessNanos);
+            recorded = true;
         }
-        updateStatus(s, b);
+    }
+
+    // plays a guess on every board of a multi-board game
+    private Runnable playMultiGuess(String s) {
+        if (!multi.playTurn(s)) {
+            EventLog.invalidInput(s, multi.getNumGuesses());
+            String text = multi.getGameOver()
+                    ? "The game is over! Press Reset for a new round."
+                    : "Invalid word!" + " Number of Guesses Taken: " + multi.getNumGuesses();
+            return () -> status.setText(text);
+        }
+        String guess = s.trim().toUpperCase();
+        int row = multi.getNumGuesses() - 1;
+        int[] patterns = new int[grids.length]; // -1 for boards solved before this guess
+        for (int b = 0; b < patterns.length; b++) {
+            patterns[b] = multi.getLastPattern(b);
+            if (patterns[b] >= 0) {
+                EventLog.guess(s, multi.getTarget(b), patterns[b]);
+            }
+        }
+        // one result per board
+        for (int b = 0; multi.getGameOver() && b < grids.length; b++) {
+            EventLog.result(multi.getTarget(b), multi.isSolved(b), multi.getNumGuesses());
+        }
+        String text;
+        if (multi.getWonGame()) {
+            text = "You solved all " + grids.length + " boards in " + multi.getNumGuesses()
+                    + " guesses!";
+        } else if (multi.getGameOver()) {
+            text = "Out of guesses! You solved " + multi.getSolvedCount() + " of "
+                    + grids.length + " boards.";
+        } else {
+            text = "Solved " + multi.getSolvedCount() + " of " + grids.length + " boards."
+                    + " Number of Guesses Taken: " + multi.getNumGuesses() + " of "
+                    + multi.getMaxGuesses();
+        }
+        return () -> {
+            for (int b = 0; b < patterns.length; b++) {
+                if (patterns[b] >= 0) {
+                    grids[b].setRow(row, guess, patterns[b]);
+                }
+            }
+            status.setText(text);
+        };
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Turns hard mode on or off for this and later games (single board only):
+     * every guess has to fit the colors of the earlier guesses.
+     */
+    public void setHardMode(boolean b) {
+        w.setHardMode(b);
+    }
+
+    public boolean isHardMode() {
+        return w.isHardMode();
+    }
+
+    /**
+     * Turns adversarial play on or off (single board only): the game doesn't
+     * pick a target and dodges every guess for as long as it can (see
+     * AbsurdleWordle). Starts a new game in the model; call reset() to clear
+     * the view.
+     */
+    public void setAdversarial(boolean b) {
+        if (b == isAdversarial()) {
+            return;
+        }
+        Wordle1 next = b ? new AbsurdleWordle(mode) : new Wordle1(mode);
+        next.setHardMode(w.isHardMode());
+        next.setTargetSelector(w.getTargetSelector());
+        w = next;
+    }
+
+    public boolean isAdversarial() {
+        return w instanceof AbsurdleWordle;
+    }
+
+    /**
+     * Returns a query for the words that fit the colors of the guesses so far,
+     * or null for a multi-board game. Safe to call from any thread.
+     */
+    public WordQuery getPossibleAnswers() {
+        return possibleAnswers;
+    }
+
+    /**
+     * Sets how the targets of the next games are picked (single board only),
+     * e.g. TargetSelector.daily() for the daily word.
+     */
+    public void setTargetSelector(TargetSelector s) {
+        w.setTargetSelector(s);
+    }
+
+    // the multi-board model, or null if the board has a single grid
+    MultiWordle getMultiWordle() {
+        return multi;
+    }
+
+    // the solver (and so hints) only knows the 5 letter word bank
+    private boolean isClassic() {
+        return mode.getWordLength() == FeedbackScorer.WORD_LENGTH;
     }
 
     /**
      * (Re-)sets the game to its initial state.
      */
     public void reset() {
-        w.reset();
-        status.setText("Number of Guesses Taken: 0" + " Guess a word!");
+        resetGame().run();
+    }
 
-        for (int i = 0; i < 6; i++) {
-            for (int j = 0; j < 5; j++) {
-                wordArray[i][j].setBackground(Color.WHITE);
-                wordArray[i][j].setText("");
-            }
+    // starts a new game in the model
+    Runnable resetGame() {
+        w.reset();
+        if (multi != null) {
+            multi.reset();
         }
-        // Makes sure this component has keyboard/mouse focus
-        requestFocusInWindow();
+        solver.reset();
+        inputtedWords.clear();
+        journalGameId = -1;
+        journaledGuesses = 0;
+        journaledResult = false;
+        recorded = false;
+        lastGuessNanos = 0;
+        possibleAnswers = multi == null ? new WordQuery(mode.getWordLength()) : null;
+        return () -> {
+            status.setText("Number of Guesses Taken: 0" + " Guess a word!");
+            for (TileGrid g : grids) {
+                g.clear();
+            }
+            // Makes sure this component has keyboard/mouse focus
+            requestFocusInWindow();
+        };
     }
 
     /**
-     * Updates the JLabel to reflect the current state of the game.
+     * Returns the status text that reflects the current state of the game.
      */
-    private void updateStatus(String guess, boolean b) {
+    private String statusText(String guess, boolean b) {
         // If word is invalid and/or game is over and user tries to keep putting in
         // words
         if (!b) {
             if (!w.isValidInput(guess)) {
                 // If player already won game
                 if (w.getWonGame()) {
-                    status.setText("You already won the game! Press Reset for a new round.");
+                    return "You already won the game! Press Reset for a new round.";
                 } else {
                     // player has lost game and tries to enter more words
                     if (w.getGameOver()) {
-                        status.setText("You already lost the game! Press Reset for a new round.");
+                        return "You already lost the game! Press Reset for a new round.";
                         // player hasn't lost game yet and tries to enter invalid word
                     } else {
-                        status.setText(
-                                "Invalid word!" + " Number of Guesses Taken: " + w.getNumGuesses()
-                        );
+                        return "Invalid word!" + " Number of Guesses Taken: " + w.getNumGuesses();
                     }
                 }
             } else {
                 if (w.getWonGame()) {
-                    status.setText("You already won the game! Press Reset for a new round.");
+                    return "You already won the game! Press Reset for a new round.";
                 } else {
                     if (w.getGameOver()) {
-                        status.setText("You already lost the game! Press Reset for a new round.");
+                        return "You already lost the game! Press Reset for a new round.";
+                    } else if (w.isHardMode()) {
+                        // a real word that doesn't fit the earlier colors
+                        return "Hard mode: your guess has to use every hint so far!"
+                                + " Number of Guesses Taken: " + w.getNumGuesses();
                     } else {
-                        status.setText(
-                                "Sadly, you did not find the correct word. The word was: "
-                                        + w.getWordleWord()
-                        );
+                        return "Sadly, you did not find the correct word. The word was: "
+                                + w.getWordleWord();
                     }
                 }
             }
             // If word in textbox can be entered
         } else {
             if (w.checkWinner(guess)) {
-                status.setText(
-                        "You found the correct word!" + " Number of Guesses Taken: "
-                                + w.getNumGuesses()
-                );
+                return "You found the correct word!" + " Number of Guesses Taken: "
+                        + w.getNumGuesses();
             } else {
                 if (w.getGameOver()) {
-                    status.setText(
-                            "Sadly, you did not find the correct word. The word was: "
-                                    + w.getWordleWord()
-                    );
+                    return "Sadly, you did not find the correct word. The word was: "
+                            + w.getWordleWord();
                 } else {
-                    status.setText(
-                            "Aw rip, better luck next guess." + " Number of Guesses Taken: "
-                                    + (w.getNumGuesses())
-                    );
+                    return "Aw rip, better luck next guess." + " Number of Guesses Taken: "
+                            + (w.getNumGuesses());
                 }
             }
-            inputtedWords.add(guess.trim().toUpperCase());
         }
+    }
 
+    // opens the game journal the first time the game is saved or loaded
+    private GameJournal getJournal() throws IOException {
+        if (journal == null) {
+            journal = GameJournal.open(dataPath);
+        }
+        return journal;
     }
 
-    // loads the saved game data onto the board and updates the status
+    // loads the most recently saved game onto the board and updates the status
     public void load(JFrame f) {
-        reset();
-        Path p = Paths.get("src/main/java/org/gameProject/wordle1/WordleGameData.txt");
-        List<String> data = new ArrayList<>();
+        load(f, false);
+    }
+
+    /**
+     * Loads the most recently saved game. The game is restored from its latest
+     * snapshot without scoring or validating anything again. If it has no
+     * snapshot, or verify is true, its guesses are replayed instead; when
+     * verifying, a snapshot that doesn't match the replay is reported and the
+     * replayed state is used.
+     */
+    public void load(JFrame f, boolean verify) {
+        loadGame(f, verify).run();
+    }
+
+    // reads the most recently saved game into the model
+    Runnable loadGame(JFrame f, boolean verify) {
+        long start = Metrics.start();
+        Runnable view = readGame(f, verify);
+        Metrics.LOAD_GAME.stop(start);
+        return view;
+    }
+
+    private Runnable readGame(JFrame f, boolean verify) {
+        if (multi != null) {
+            return () -> status.setText("Saved games can only be loaded with one board.");
+        }
+        if (isAdversarial()) {
+            return () -> status.setText("Saved games can't be loaded in adversarial mode.");
+        }
+        Runnable resetView = resetGame();
         try {
-            data = Files.readAllLines(p);
+            GameJournal j = getJournal();
+            long id = j.getLastGameId();
             // in case the user tries to load file without saving a game state
-            if (data.isEmpty()) {
-                status.setText("You haven't saved any game progress yet!");
-            } else {
-                String wordleWord = data.get(0);
-                w.setWordleWord(wordleWord);
-
-                // in case the user saves a game without making any guesses
-                if (data.size() == 2) {
-                    String prevGuesses = data.get(1);
-                    String[] prevGuessesArray = prevGuesses.split(", ");
-                    boolean b = true;
-                    for (int i = 0; i < prevGuessesArray.length; i++) {
-                        List<Color> colors = getActualColors(
-                                w.getColors(prevGuessesArray[i], w.getWordleWord())
-                        );
-                        for (int j = 0; j < 5; j++) {
-                            wordArray[i][j].setBackground(colors.get(j));
-                            wordArray[i][j].setHorizontalAlignment(SwingConstants.CENTER);
-                            wordArray[i][j].setVerticalAlignment(SwingConstants.CENTER);
-                            wordArray[i][j]
-                                    .setText(Character.toString(prevGuessesArray[i].charAt(j)));
-                        }
-                        b = w.playTurn(prevGuessesArray[i]);
-                    }
-                    if (prevGuessesArray.length != 0) {
-                        updateStatus(prevGuessesArray[prevGuessesArray.length - 1], b);
-                    }
-                }
+            if (id < 0) {
+                return () -> {
+                    resetView.run();
+                    status.setText("You haven't saved any game progress yet!");
+                };
+            }
+            GameSnapshot snap = j.readSnapshot(id);
+            JournaledGame game = snap == null || verify ? j.read(id) : null;
+            // the board can only show games of its own mode
+            GameMode saved = snap != null ? snap.getMode() : game.getMode();
+            if (!saved.equals(mode)) {
+                return () -> {
+                    resetView.run();
+                    status.setText(
+                            "The saved game is a " + saved.getWordLength() + "-letter, "
+                                    + saved.getMaxGuesses() + "-guess game and can't be "
+                                    + "loaded here."
+                    );
+                };
+            }
+            boolean corrupted = false;
+            if (game != null) {
+                GameSnapshot replayed = GameSnapshot.replay(
+                        mode, game.getTarget(), game.getGuesses()
+                );
+                corrupted = snap != null && !snap.equals(replayed);
+                snap = replayed;
+            }
+            String text = install(snap);
+            if (corrupted) {
+                text = "The saved game didn't match its guesses, so they were replayed.";
             }
+            // saving again adds to the same game in the journal
+            journalGameId = id;
+            journaledGuesses = inputtedWords.size();
+            journaledResult = snap.getGameOver();
+
+            GameSnapshot loaded = snap;
+            String loadedText = text;
+            return () -> {
+                resetView.run();
+                grid.setBoard(loaded); // the whole board in one repaint
+                if (loadedText != null) {
+                    status.setText(loadedText);
+                }
+            };
         } catch (IOException e) {
-            JOptionPane.showMessageDialog(
-                    f, "Invalid File Path!", "Instructions", JOptionPane.ERROR_MESSAGE
-            );
-            status.setText("Invalid File Name");
-            System.out.println("Invalid File Name");
+            Metrics.IO_ERRORS.increment();
+            EventLog.ioError("load game " + dataPath, e);
+            return () -> {
+                resetView.run();
+                JOptionPane.showMessageDialog(
+                        f, "Invalid File Path!", "Instructions", JOptionPane.ERROR_MESSAGE
+                );
+                status.setText("Invalid File Name");
+            };
         }
     }
 
-    // stores the wordleWord and a string of all previous guesses
+    // puts a saved game state into the model and returns the status text for it
+    // (null if the game has no guesses yet)
+    private String install(GameSnapshot snap) {
+        snap.restore(w);
+        for (int i = 0; i < snap.getGuessCount(); i++) {
+            String guess = snap.getGuess(i);
+            if (isClassic()) {
+                solver.apply(guess, snap.getPattern(i));
+            }
+            inputtedWords.add(guess);
+        }
+        // a game that was already over was recorded when it was played, and the
+        // time of a loaded game isn't known
+        recorded = snap.getGameOver();
+        possibleAnswers = WordQuery.of(w.getConstraints());
+        firstGuessNanos = System.nanoTime();
+        lastGuessNanos = snap.getGuessCount() > 0 ? firstGuessNanos : 0;
+        if (snap.getGuessCount() > 0) {
+            return statusText(snap.getGuess(snap.getGuessCount() - 1), true);
+        }
+        return null;
+    }
+
+    // appends the guesses made since the last save (and the result, once the
+    // game is over) to the game journal
     public void save(JFrame f) {
+        saveGame(f).run();
+    }
+
+    // writes the game to the journal
+    Runnable saveGame(JFrame f) {
+        long start = Metrics.start();
+        Runnable view = writeGame(f);
+        Metrics.SAVE_GAME.stop(start);
+        return view;
+    }
+
+    private Runnable writeGame(JFrame f) {
+        if (multi != null) {
+            return () -> status.setText("Only games with one board can be saved.");
+        }
+        // the target of an adversarial game changes with every guess
+        if (isAdversarial()) {
+            return () -> status.setText("Adversarial games can't be saved.");
+        }
+        try {
+            GameJournal j = getJournal();
+            if (journalGameId < 0) {
+                journalGameId = j.newGame(w.getWordleWord(), mode.getMaxGuesses());
+            }
+            for (; journaledGuesses < inputtedWords.size(); journaledGuesses++) {
+                String guess = inputtedWords.get(journaledGuesses);
+                j.appendGuess(journalGameId, guess, w.getPattern(guess, w.getWordleWord()));
+            }
+            if (w.getGameOver() && !journaledResult) {
+                j.appendResult(journalGameId, w.getWonGame(), w.getNumGuesses());
+                journaledResult = true;
+            }
+            // lets the next load restore the game without replaying it
+            j.appendSnapshot(journalGameId, GameSnapshot.of(w, inputtedWords));
+            j.commit();
+            return () -> status.setText("Successfully saved game data!");
+        } catch (IOException e) {
+            Metrics.IO_ERRORS.increment();
+            EventLog.ioError("save game " + dataPath, e);
+            return () -> {
+                JOptionPane.showMessageDialog(
+                        f, "Invalid File Path!", "Instructions", JOptionPane.ERROR_MESSAGE
+                );
+                status.setText("Invalid file path");
+            };
+        }
+    }
+
+    // shows the solver's best next guess in the status bar
+    public void showHint() {
+        hint().run();
+    }
+
+    // asks the solver for the best next guess
+    Runnable hint() {
+        String text;
+        if (multi != null) {
+            text = "Hints are only available with one board.";
+        } else if (w.getGameOver()) {
+            text = "The game is over! Press Reset for a new round.";
+        } else if (!isClassic()) {
+            // no solver for this length, so suggest the first word that fits the colors
+            WordQuery q = WordQuery.of(w.getConstraints());
+            WordDawg index = mode.getDictionary().getIndex();
+            List<String> fits = index.find(q, 1);
+            text = fits.isEmpty() ? "No word in the word bank fits your guesses!"
+                    : "Hint: try " + fits.get(0) + " (" + index.count(q)
+                            + " possible words left)";
+        } else {
+            String hint = solver.bestGuess();
+            if (hint == null) {
+                text = "No word in the word bank fits your guesses!";
+            } else {
+                text = "Hint: try " + hint.toUpperCase() + " (" + solver.getCandidateCount()
+                        + " possible words left)";
+            }
+        }
+        return () -> {
+            status.setText(text);
+            requestFocusInWindow();
+        };
+    }
+
+    // the player's statistics (single board games only)
+    public GameStatistics getStatistics() {
+        return stats;
+    }
+
+    /**
+     * Saves the statistics now, e.g. when the game is closed. They are also saved
+     * every 30 seconds while games are played. Does nothing if the directory
+     * of the statistics file didn't exist when the board was created.
+     */
+    public void saveStatistics() {
+        if (!statsSaved) {
+            return;
+        }
         try {
-            FileWriter fw = new FileWriter("src/main/java/org/gameProject/wordle1/WordleGameData.txt");
-            String inputs = inputtedWords + "";
-            String inputs2 = inputs.substring(1, inputs.length() - 1);
-            String data = w.getWordleWord() + "\n" + inputs2;
-            fw.write(data);
-            fw.flush();
-            fw.close();
-            status.setText("Successfully saved game data!");
+            stats.saveIfChanged(statsPath);
         } catch (IOException e) {
-            JOptionPane.showMessageDialog(
-                    f, "Invalid File Path!", "Instructions", JOptionPane.ERROR_MESSAGE
-            );
-            status.setText("Invalid file path");
-            System.out.println("Invalid file path");
-            e.printStackTrace();
+            EventLog.ioError("save statistics " + statsPath, e);
         }
     }
 
+    // shows the player's statistics
+    public void openStats(JFrame f) {
+        JTextArea text = new JTextArea(stats.getReport());
+        text.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        text.setEditable(false);
+        JOptionPane.showMessageDialog(
+                f, text, "Statistics", JOptionPane.INFORMATION_MESSAGE
+        );
+    }
+
     /**
      * Returns the size of the game board.
      */
@@ -269,11 +686,13 @@ public class WordleGameBoard extends JPanel {
 
     // instructions for game
     public void openInstructions(JFrame f) {
+        int tries = mode.getMaxGuesses();
+        int letters = mode.getWordLength();
         String instructions = "Welcome to Wordle!\n\n " +
-                "To begin, you will have 6 tries to guess each word, which is \n" +
+                "To begin, you will have " + tries + " tries to guess each word, which is \n" +
                 "randomly generated from a fixed word bank. You will only be \n" +
-                "able to guess 5 letter words (case/white spaces don't matter) that are \n " +
-                "included within this word bank. If your word is not 5 characters\n" +
+                "able to guess " + letters + " letter words (case/white spaces don't matter) that are \n " +
+                "included within this word bank. If your word is not " + letters + " characters\n" +
                 "long or it does not exist in the word bank, then the status bar at\n" +
                 "the bottom will notify you. The status bar will also tell you how\n" +
                 "many guesses you have taken.\n\n" +
@@ -282,9 +701,9 @@ public class WordleGameBoard extends JPanel {
                 "the Enter button or press the enter key on your keyboard to submit\n " +
                 "your guess. The reset button will allow you to reset the game to\n" +
                 "a new word. The Save button saves your progress made on guessing a\n" +
-                "particular word (note that you can only save the progress of 1 game\n" +
-                "at a time). The Load button will reload your progress from the game\n" +
-                "you saved using the Save button.\n \n" +
+                "particular word. The Load button will reload your progress from the\n" +
+                "game you saved most recently using the Save button. The Hint button suggests a good\n" +
+                "next guess based on the colors you have seen so far.\n \n" +
                 "You will not be able to enter in more words after the game is over,\n" +
                 "whether you win or lose, and the status bar is updated accordingly.";
         JOptionPane.showMessageDialog(
@@ -0,0 +1,215 @@
+package org.gameProject.wordle1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * WordleSolver keeps track of which words in the word bank could still be the
+ * answer and suggests guesses.
+ *
+ * The remaining candidates are a bitset over the word bank. After each guess the
+ * feedback is applied with a few bitset ANDs (see LetterIndex), so the set only
+ * ever shrinks. Guesses are ranked by expected information: every word in the
+ * word bank splits the candidates into buckets by the pattern it would get, and
+ * the guess whose buckets have the highest entropy is the best. Words are ranked
+ * in parallel.
+ *
+ * A solver is used by one game at a time and is not thread-safe.
+ */
+public class WordleSolver {
+    private final WordDictionary dictionary;
+    private final FeedbackMatrix matrix;
+    private final LetterIndex letters;
+    private long[] candidates;
+
+    /**
+     * Creates a solver for the shared word bank.
+     */
+    public WordleSolver() {
+        this(WordDictionary.getInstance(), FeedbackMatrix.getInstance(), SharedIndex.INSTANCE);
+    }
+
+    /**
+     * Creates a solver for any word bank (the matrix must be built from it).
+     */
+    public WordleSolver(WordDictionary dictionary, FeedbackMatrix matrix) {
+        this(dictionary, matrix, new LetterIndex(dictionary));
+    }
+
+    private WordleSolver(WordDictionary dictionary, FeedbackMatrix matrix, LetterIndex letters) {
+        this.dictionary = dictionary;
+        this.matrix = matrix;
+        this.letters = letters;
+        reset();
+    }
+
+    // letter index of the shared word bank, built once
+    private static final class SharedIndex {
+        private static final LetterIndex INSTANCE = new LetterIndex(WordDictionary.getInstance());
+    }
+
+    /**
+     * Makes every word a candidate again (for a new game).
+     */
+    public void reset() {
+        candidates = letters.allWords();
+    }
+
+    /**
+     * Removes the candidates that don't agree with the feedback for a guess.
+     *
+     * @param guess   the guess (case/white space don't matter)
+     * @param pattern the pattern id the guess got (see FeedbackScorer)
+     */
+    public void apply(String guess, int pattern) {
+        letters.filter(candidates, FeedbackScorer.pack(guess), pattern);
+    }
+
+    public int getCandidateCount() {
+        return LetterIndex.cardinality(candidates);
+    }
+
+    // returns whether word number i could still be the answer
+    public boolean isCandidate(int i) {
+        return (candidates[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Returns the words that could still be the answer, in word bank order.
+     */
+    public List<String> getCandidates() {
+        int[] ids = candidateIds();
+        List<String> words = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            words.add(dictionary.wordAt(id));
+        }
+        return words;
+    }
+
+    private int[] candidateIds() {
+        int[] ids = new int[getCandidateCount()];
+        int n = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            long bits = candidates[i];
+            while (bits != 0) {
+                ids[n++] = (i << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the best next guess, or null if no word fits the feedback.
+     */
+    public String bestGuess() {
+        List<Suggestion> best = rankGuesses(1);
+        return best.isEmpty() ? null : best.get(0).getWord();
+    }
+
+    /**
+     * Returns the k guesses with the highest expected information, best first.
+     * When two guesses are equally good, one that could be the answer wins.
+     */
+    public List<Suggestion> rankGuesses(int k) {
+        int[] ids = candidateIds();
+        if (ids.length == 0) {
+            return new ArrayList<>();
+        }
+        if (ids.length <= 2) {
+            // guessing a candidate is at least as good as anything else
+            List<Suggestion> res = new ArrayList<>();
+            for (int i = 0; i < ids.length && i < k; i++) {
+                res.add(new Suggestion(dictionary.wordAt(ids[i]), ids.length == 1 ? 0 : 1, true));
+            }
+            return res;
+        }
+        double[] entropy = new double[dictionary.size()];
+        IntStream.range(0, dictionary.size()).parallel()
+                .forEach(g -> entropy[g] = entropy(g, ids));
+
+        // keep the best k in order (a plain scan for the best when k is 1); most
+        // words are worse than the k-th and are rejected with one comparison
+        int[] top = new int[Math.max(0, Math.min(k, entropy.length))];
+        int n = 0;
+        for (int g = 0; g < entropy.length && top.length > 0; g++) {
+            if (n == top.length && !better(g, top[n - 1], entropy)) {
+                continue;
+            }
+            int i = n < top.length ? n++ : n - 1;
+            while (i > 0 && better(g, top[i - 1], entropy)) {
+                top[i] = top[i - 1];
+                i--;
+            }
+            top[i] = g;
+        }
+        List<Suggestion> res = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int g = top[i];
+            res.add(new Suggestion(dictionary.wordAt(g), entropy[g], isCandidate(g)));
+        }
+        return res;
+    }
+
+    // whether guess g ranks above guess h: more information, then a possible
+    // answer, then the earlier word
+    private boolean better(int g, int h, double[] entropy) {
+        if (entropy[g] != entropy[h]) {
+            return entropy[g] > entropy[h];
+        }
+        if (isCandidate(g) != isCandidate(h)) {
+            return isCandidate(g);
+        }
+        return g < h;
+    }
+
+    // entropy (in bits) of the pattern buckets guess g splits the candidates into
+    private double entropy(int g, int[] ids) {
+        int[] buckets = new int[FeedbackScorer.NUM_PATTERNS];
+        for (int id : ids) {
+            buckets[matrix.get(g, id)]++;
+        }
+        double n = ids.length;
+        double sum = 0;
+        for (int c : buckets) {
+            if (c > 0) {
+                sum += c * Math.log(c);
+            }
+        }
+        return (Math.log(n) - sum / n) / Math.log(2);
+    }
+
+    /**
+     * A ranked guess: the word, how many bits of information it is expected to
+     * give, and whether it could be the answer itself.
+     */
+    public static final class Suggestion {
+        private final String word;
+        private final double entropy;
+        private final boolean candidate;
+
+        Suggestion(String word, double entropy, boolean candidate) {
+            this.word = word;
+            this.entropy = entropy;
+            this.candidate = candidate;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        public double getEntropy() {
+            return entropy;
+        }
+
+        public boolean isCandidate() {
+            return candidate;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (%.2f bits%s)", word, entropy, candidate ? ", candidate" : "");
+        }
+    }
+}
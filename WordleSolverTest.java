@@ -0,0 +1,69 @@
+package org.gameProject.wordle1;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class WordleSolverTest {
+    @Test
+    public void testFilteringMatchesScoring() {
+        WordDictionary d = WordDictionary.getInstance();
+        FeedbackMatrix m = FeedbackMatrix.build(d);
+        int[] guesses = { d.indexOf("eager"), d.indexOf("crane"), d.indexOf("offer") };
+        for (int answer = 0; answer < d.size(); answer += 7) {
+            WordleSolver solver = new WordleSolver(d, m);
+            for (int g : guesses) {
+                Assertions.assertTrue(g >= 0);
+                solver.apply(d.wordAt(g), m.get(g, answer));
+            }
+            // a word is a candidate exactly when every guess scores the same against it
+            for (int c = 0; c < d.size(); c++) {
+                boolean expected = true;
+                for (int g : guesses) {
+                    expected &= m.get(g, c) == m.get(g, answer);
+                }
+                Assertions.assertEquals(expected, solver.isCandidate(c), d.wordAt(c));
+            }
+        }
+    }
+
+    @Test
+    public void testSolvedGameSuggestsAnswer() {
+        WordleSolver solver = new WordleSolver();
+        solver.apply("ARISE", FeedbackScorer.score("ARISE", "SPENT"));
+        solver.apply("COUNT", FeedbackScorer.score("COUNT", "SPENT"));
+        Assertions.assertTrue(solver.getCandidates().contains("spent"));
+        solver.apply("SPEND", FeedbackScorer.score("SPEND", "SPENT"));
+        Assertions.assertEquals(List.of("spent"), solver.getCandidates());
+        Assertions.assertEquals("spent", solver.bestGuess());
+
+        solver.reset();
+        Assertions.assertEquals(WordDictionary.getInstance().size(), solver.getCandidateCount());
+    }
+
+    @Test
+    public void testRankingIsOrdered() {
+        WordleSolver solver = new WordleSolver();
+        solver.apply("CRANE", FeedbackScorer.score("CRANE", "SPENT"));
+        List<WordleSolver.Suggestion> all = solver.rankGuesses(Integer.MAX_VALUE);
+        Assertions.assertEquals(WordDictionary.getInstance().size(), all.size());
+        for (int i = 1; i < all.size(); i++) {
+            WordleSolver.Suggestion a = all.get(i - 1);
+            WordleSolver.Suggestion b = all.get(i);
+            Assertions.assertTrue(a.getEntropy() > b.getEntropy()
+                    || a.getEntropy() == b.getEntropy() && (a.isCandidate() || !b.isCandidate()));
+        }
+        // a shorter ranking is the start of the full one, and the best guess is its first word
+        Assertions.assertEquals(all.subList(0, 5).toString(), solver.rankGuesses(5).toString());
+        Assertions.assertEquals(all.get(0).getWord(), solver.bestGuess());
+        Assertions.assertTrue(solver.rankGuesses(0).isEmpty());
+    }
+
+    @Test
+    public void testEntropyStrategyWins() {
+        SimulationStats stats = new BatchSimulator(new EntropyStrategy())
+                .run(WordDictionary.getInstance().toList());
+        Assertions.assertEquals(stats.getGames(), stats.getWins());
+    }
+}
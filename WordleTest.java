@@ -173,4 +173,42 @@ public class WordleTest {
         // since all the other instance variables are primitives/Strings, they are by
         // definition encapsulated
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDictionaryLoadedOnce() {
+        WordDictionary d = WordDictionary.getInstance();
+        Assertions.assertSame(d, WordDictionary.getInstance()); // shared by every game
+        Assertions.assertTrue(d.contains(" CrAnE "));
+        Assertions.assertFalse(d.contains("aaaaa"));
+        Assertions.assertEquals("crane", d.wordAt(d.indexOf("CRANE")));
+        Assertions.assertEquals(-1, d.indexOf("aaaaa"));
+    }
+
+    @Test
+    public void testDuplicateLettersColorings() {
+        Wordle1 w = new Wordle1();
+        // only one E in SPENT, so only the first E of EERIE is yellow
+        Assertions.assertEquals(List.of(0, -1, -1, -1, -1), w.getColors("EERIE", "SPENT"));
+        // the green E uses up the only E, so the other E's are gray
+        Assertions.assertEquals(List.of(-1, -1, 1, -1, -1), w.getColors("EVERY", "SPENT"));
+        Assertions.assertEquals(List.of(0, 0, -1, -1, -1), w.getColors("LLAMA", "HELLO"));
+        Assertions.assertEquals(FeedbackScorer.ALL_GREEN, w.getPattern(" spent ", "SPENT"));
+    }
+
+    @Test
+    public void testBatchSimulator() {
+        Assertions.assertEquals(1, new BatchSimulator((g, p, t) -> "spent").play("SPENT"));
+        Assertions.assertEquals(0, new BatchSimulator((g, p, t) -> "crane").play("SPENT"));
+        Assertions.assertEquals(-1, new BatchSimulator((g, p, t) -> "aaaaa").play("SPENT"));
+
+        WordDictionary d = WordDictionary.getInstance();
+        SimulationStats stats = new BatchSimulator(new FirstCandidateStrategy(d, "crane"))
+                .run(BatchSimulator.sample(d, 50, 1));
+        Assertions.assertEquals(50, stats.getGames());
+        long total = 0;
+        for (int i = 1; i <= Wordle1.MAX_GUESSES; i++) {
+            total += stats.getWinsIn(i);
+        }
+        Assertions.assertEquals(stats.getWins(), total);
+    }
+}
@@ -0,0 +1,92 @@
+package org.gameProject.wordle1.bench;
+
+import org.gameProject.wordle1.WordDictionary;
+import org.gameProject.wordle1.Wordle1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Wordle1 model: construction, reset, input validation,
+ * scoring and playing a turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dwordle.eventLog=off")
+public class ModelBenchmark {
+    // number of words in the word bank; 0 means the real WordleWords.txt
+    @Param({ "0", "10000", "100000", "1000000" })
+    public int words;
+
+    private WordDictionary dictionary;
+    private Wordle1 game;
+    private String target;
+    private String guess; // in the word bank, but not the target
+    private String invalid = "QQQQ1"; // never in the word bank
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dictionary = WordLists.dictionary(words);
+        List<String> list = dictionary.toList();
+        target = list.get(0).toUpperCase();
+        guess = list.get(list.size() - 1);
+        game = new Wordle1(dictionary);
+        game.setWordleWord(target);
+    }
+
+    @Benchmark
+    public Wordle1 construct() {
+        return new Wordle1(dictionary);
+    }
+
+    @Benchmark
+    public String reset() {
+        game.reset();
+        return game.getWordleWord();
+    }
+
+    @Benchmark
+    public boolean isValidInput() {
+        return game.isValidInput(guess);
+    }
+
+    @Benchmark
+    public boolean isValidInputRejected() {
+        return game.isValidInput(invalid);
+    }
+
+    @Benchmark
+    public List<Integer> getColors() {
+        return game.getColors(guess, target);
+    }
+
+    @Benchmark
+    public int getPattern() {
+        return game.getPattern(guess, target);
+    }
+
+    // plays the same wrong guess until the game is lost, then starts over
+    @Benchmark
+    public boolean playTurn() {
+        if (game.getGameOver()) {
+            game.reset();
+            game.setWordleWord(target);
+        }
+        return game.playTurn(guess);
+    }
+}
@@ -0,0 +1,69 @@
+package org.gameProject.wordle1.bench;
+
+import org.gameProject.wordle1.WordleGameBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.JLabel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of saving and loading a game through WordleGameBoard. Runs headless,
+ * with a board that saves to a temporary file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Dwordle.eventLog=off" })
+public class SaveLoadBenchmark {
+    private Path dir;
+    private WordleGameBoard board;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("wordle-bench");
+        board = new WordleGameBoard(new JLabel(), dir.resolve("WordleGameData.journal"));
+        board.reset();
+        board.setWordInBoard("arise");
+        board.setWordInBoard("count");
+        board.setWordInBoard("crane");
+        board.save(null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.list(dir)) {
+            for (Path p : (Iterable<Path>) files::iterator) {
+                Files.delete(p);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Benchmark
+    public WordleGameBoard save() {
+        board.save(null);
+        return board;
+    }
+
+    @Benchmark
+    public WordleGameBoard load() {
+        board.load(null);
+        return board;
+    }
+}
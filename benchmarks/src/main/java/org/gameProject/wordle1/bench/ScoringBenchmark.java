@@ -0,0 +1,58 @@
+package org.gameProject.wordle1.bench;
+
+import org.gameProject.wordle1.WordScorer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of scoring packed words of each game mode's word length, to check
+ * that longer words don't cost more per letter than 5 letter words.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dwordle.eventLog=off")
+public class ScoringBenchmark {
+    @Param({ "4", "5", "8", "11" })
+    public int length;
+
+    private static final int WORDS = 1024;
+
+    private WordScorer scorer;
+    private final long[] codes = new long[WORDS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scorer = WordScorer.forLength(length);
+        SplittableRandom r = new SplittableRandom(length);
+        char[] letters = new char[length];
+        for (int i = 0; i < WORDS; i++) {
+            for (int j = 0; j < length; j++) {
+                letters[j] = (char) ('a' + r.nextInt(26));
+            }
+            codes[i] = scorer.pack(new String(letters));
+        }
+    }
+
+    @Benchmark
+    public int score() {
+        int i = next++ & (WORDS - 1);
+        return scorer.score(codes[i], codes[(i * 7 + 3) & (WORDS - 1)]);
+    }
+}
@@ -0,0 +1,42 @@
+package org.gameProject.wordle1.bench;
+
+import org.gameProject.wordle1.WordDictionary;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Word banks for the benchmarks: the real word bank, or a synthetic one with any
+ * number of distinct random 5-letter words.
+ */
+final class WordLists {
+    private WordLists() {
+    }
+
+    /**
+     * Returns the real word bank when size is 0, otherwise a synthetic word bank
+     * with exactly size words. The same size always gives the same words.
+     */
+    static WordDictionary dictionary(int size) {
+        if (size == 0) {
+            return WordDictionary.getInstance();
+        }
+        return WordDictionary.of(synthetic(size, size));
+    }
+
+    static List<String> synthetic(int size, long seed) {
+        SplittableRandom r = new SplittableRandom(seed);
+        Set<String> words = new LinkedHashSet<>(size * 2);
+        char[] letters = new char[5];
+        while (words.size() < size) {
+            for (int i = 0; i < letters.length; i++) {
+                letters[i] = (char) ('a' + r.nextInt(26));
+            }
+            words.add(new String(letters));
+        }
+        return new ArrayList<>(words);
+    }
+}